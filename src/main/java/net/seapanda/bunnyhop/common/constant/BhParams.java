@@ -23,6 +23,7 @@ public class BhParams {
 
 	public static final String APPLICATION_NAME = "BunnyHop";	public static final int NUM_TIMES_MAX_UNDO = 128;	//!< undo 可能な最大回数
 	public static final  int EXECUTOR_SHUTDOWN_TIMEOUT = 5;	//!< ExecutorService のシャットダウンを待つ時間 (sec)
+	public static final int MAX_POOLED_NODE_VIEWS = 64;	//!< ノードIDごとに再利用のため保持しておくノードビューの最大数
 
 	/**
 	 * Look & Feel
@@ -37,6 +38,7 @@ public class BhParams {
 		public static final double MAX_ZOOM_LEVEL = 30;		//!< 最大拡大レベル
 		public static final double MIN_ZOOM_LEVEL = -40;	//!< 最小拡大レベル
 		public static final int INITIAL_ZOOM_LEVEL = -1;
+		public static final int LOW_DETAIL_ZOOM_LEVEL = -12;	//!< この拡大レベル以下では, ノードのテキストやコントロールを描画せずに簡略化した形で描画する
 		public static final int NUM_DIV_OF_QTREE_SPACE = 4;	//!< 4分木空間の分割数 (2^numDivOfQTreeSpace)^2
 		public static final double MAX_WORKSPACE_SIZE_LEVEL = 3;		//!< ワークスペースの最大の大きさレベル
 		public static final double MIN_WORKSPACE_SIZE_LEVEL = -1;	//!< ワークスペースの最小の大きさレベル
@@ -45,6 +47,11 @@ public class BhParams {
 		public static final double REPLACED_NODE_SHIFT = 2.5 * BhParams.LnF.NODE_SCALE;		//!< 入れ替えられたノードがワークスペースに移ったときの元の位置に対する位置 (単位rem)
 		public static final double BHNODE_SPACE_ON_SELECTION_PANEL = 2.0 * BhParams.LnF.NODE_SCALE;		//!< BhNode選択パネル上でのBhNode間のスペース
 		public static final double NODE_SHIFTER_SIZE = Rem.VAL * 7.0;	//!< マルチノードシフタの大きさ
+		public static final double AUTO_SCROLL_MARGIN = Rem.VAL * 3.0;	//!< ノードのドラッグ中に自動スクロールを始めるビューポート端からの距離
+		public static final double AUTO_SCROLL_MAX_SPEED = Rem.VAL * 60.0;	//!< ノードのドラッグ中の自動スクロールの最大速度 (pixel / sec)
+		public static final int MAX_NUM_CACHED_TEXT_SIZES = 4096;	//!< 文字列の表示サイズのキャッシュの最大保持数
+		public static final int MAX_NUM_CACHED_NODE_SHAPES = 1024;	//!< ボディの形ごとのノードの頂点リストのキャッシュの最大保持数
+		public static final double VIEWPORT_CULLING_MARGIN = Rem.VAL * 8.0;	//!< ビューポートの外でもノードを表示し続ける範囲 (ワークスペース上の長さ)
 	}
 
 	/**
@@ -65,6 +72,7 @@ public class BhParams {
 		public static final String MESSAGE_DIR = "Message";	//!< メッセージ定義ファイルがあるフォルダ名
 		public static final String DEFAULT_MESSAGE_FILE_NAME = "message";	//!< デフォルトメッセージプロパティファイル名
 		public static final String LOG_FILE_NAME = "msg";
+		public static final String MEMORY_REPORT_FILE_NAME = "memoryUsage";	//!< メモリ使用量レポートのファイル名 (拡張子と日時は含まない)
 		public static final String lib = "lib";
 		public static final String COMPILED_DIR = "Compiled";
 		public static final String REMOTE_DIR = "Remote";
@@ -255,6 +263,7 @@ public class BhParams {
 		public static final String PSEUDO_EMPTY = "empty";
 		public static final String PSEUDO_BHNODE = "error";
 		public static final String PSEUDO_IS_EVEN = "isEven";
+		public static final String PSEUDO_LOW_DETAIL = "lowDetail";
 		public static final String CLASS_BHNODE = "BhNode";
 		public static final String CLASS_VOID_NODE = "voidNode";
 		public static final String CLASS_COMBO_BOX_NODE = "comboBoxNode";
@@ -138,7 +138,7 @@ public class CompileNodeCollector {
 	private BhNode getCopyOfExecNode(
 		NodeGraphSnapshot snapshot, BhNode nodeToExec) {
 
-		BhNode copyOfNodeToExec = snapshot.getMapOfSymbolIdToNode().get(nodeToExec.getSymbolID());
+		BhNode copyOfNodeToExec = snapshot.findNode(nodeToExec.getSymbolID());
 		if (copyOfNodeToExec == null) {
 			String msg = "not found the copy of the BhNode to execute in the snapshot";
 			MsgPrinter.INSTANCE.msgForDebug(getClass().getSimpleName() + "  " + msg);
@@ -22,6 +22,7 @@ import java.util.Optional;
 
 import net.seapanda.bunnyhop.bhprogram.common.BhProgramData;
 import net.seapanda.bunnyhop.model.node.TextNode;
+import net.seapanda.bunnyhop.model.syntaxsynbol.SymbolNamePath;
 import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
 
 /**
@@ -30,6 +31,10 @@ import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
  */
 public class EventHandlerCodeGenerator {
 
+	private static final SymbolNamePath DELAY_TIME_PATH = new SymbolNamePath("*", "*", SymbolNames.Event.DELAY_TIME);	//!< 遅延時間ノードへのパス
+	private static final SymbolNamePath STAT_LIST_PATH = new SymbolNamePath("*", SymbolNames.Stat.STAT_LIST, "*");	//!< イベントハンドラの文ノードへのパス
+	private static final SymbolNamePath KEY_CODE_PATH = new SymbolNamePath("*", "*", SymbolNames.Event.KEY_CODE);	//!< キーコードノードへのパス
+
 	private final CommonCodeGenerator common;
 	private final StatCodeGenerator statCodeGen;
 	private final VarDeclCodeGenerator varDeclCodeGen;
@@ -131,14 +136,14 @@ public class EventHandlerCodeGenerator {
 
 		// _sleep(...)
 		if (eventNode.getSymbolName().equals(SymbolNames.Event.DELAYED_START_EVENT)) {
-			TextNode delayTimeNode = (TextNode)eventNode.findSymbolInDescendants("*", "*", SymbolNames.Event.DELAY_TIME);
+			TextNode delayTimeNode = (TextNode)eventNode.findSymbolInDescendants(DELAY_TIME_PATH);
 			code.append(common.indent(nestLevel + 4))
 				.append(common.genFuncCallCode(ScriptIdentifiers.Funcs.SLEEP, delayTimeNode.getText()))
 				.append(";")
 				.append(Keywords.newLine);
 		}
 
-		SyntaxSymbol stat = eventNode.findSymbolInDescendants("*", SymbolNames.Stat.STAT_LIST, "*");
+		SyntaxSymbol stat = eventNode.findSymbolInDescendants(STAT_LIST_PATH);
 		statCodeGen.genStatement(stat, code, nestLevel + 4, option);
 
 		genFooterSnippetOfEventCall(code, lockVar, nestLevel);
@@ -164,7 +169,7 @@ public class EventHandlerCodeGenerator {
 
 		switch (eventNode.getSymbolName()) {
 			case SymbolNames.Event.KEY_PRESS_EVENT:
-				TextNode eventTypeNode = (TextNode)eventNode.findSymbolInDescendants("*", "*", SymbolNames.Event.KEY_CODE);
+				TextNode eventTypeNode = (TextNode)eventNode.findSymbolInDescendants(KEY_CODE_PATH);
 				return Optional.ofNullable(KEY_TO_KEYPRESSED_EVENT.get(eventTypeNode.getText()));
 
 			case SymbolNames.Event.DELAYED_START_EVENT:
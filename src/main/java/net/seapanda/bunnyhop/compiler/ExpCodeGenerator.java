@@ -22,6 +22,7 @@ import java.util.List;
 
 import net.seapanda.bunnyhop.model.node.BhNode;
 import net.seapanda.bunnyhop.model.node.TextNode;
+import net.seapanda.bunnyhop.model.syntaxsynbol.SymbolNamePath;
 import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
 
 /**
@@ -30,6 +31,20 @@ import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
  */
 public class ExpCodeGenerator {
 
+	private static final SymbolNamePath LITERAL_PATH = new SymbolNamePath("*", "Literal", "*");	//!< リテラルノードへのパス
+	private static final SymbolNamePath LEFT_EXP_PATH = new SymbolNamePath("*", SymbolNames.BinaryExp.LEFT_EXP, "*");	//!< 二項演算の左辺ノードへのパス
+	private static final SymbolNamePath RIGHT_EXP_PATH = new SymbolNamePath("*", SymbolNames.BinaryExp.RIGHT_EXP, "*");	//!< 二項演算の右辺ノードへのパス
+	private static final SymbolNamePath OPERATOR_PATH = new SymbolNamePath("*", SymbolNames.BinaryExp.OPERATOR, "*");	//!< 二項演算の演算子ノードへのパス
+	private static final SymbolNamePath PRIMARY_EXP_PATH = new SymbolNamePath("*", SymbolNames.UnaryExp.PRIMARY_EXP, "*");	//!< 単項演算の被演算子ノードへのパス
+	private static final SymbolNamePath USER_DEF_ARG_PATH = new SymbolNamePath("*", SymbolNames.UserDefFunc.ARG, "*");	//!< ユーザ定義関数の実引数ノードへのパス
+	private static final SymbolNamePath USER_DEF_OUT_ARG_PATH = new SymbolNamePath("*", SymbolNames.UserDefFunc.OUT_ARG, "*");	//!< ユーザ定義関数の出力実引数ノードへのパス
+	private static final SymbolNamePath NEXT_ARG_PATH = new SymbolNamePath("*", SymbolNames.UserDefFunc.NEXT_ARG, "*");	//!< 次の実引数ノードへのパス
+	private static final SymbolNamePath ARRAY_PATH = new SymbolNamePath("*", SymbolNames.Array.ARRAY, "*");	//!< 配列ノードへのパス
+	private static final SymbolNamePath DURATION_PATH = new SymbolNamePath("*", SymbolNames.Literal.Sound.DURATION, "*");	//!< 音の長さノードへのパス
+	private static final SymbolNamePath FREQUENCY_PATH = new SymbolNamePath("*", SymbolNames.Literal.Sound.FREQUENCY, "*");	//!< 周波数ノードへのパス
+	private static final SymbolNamePath OCTAVE_PATH = new SymbolNamePath("*", SymbolNames.Literal.Sound.OCTAVE, "*");	//!< オクターブノードへのパス
+	private static final SymbolNamePath SCALE_SOUND_PATH = new SymbolNamePath("*", SymbolNames.Literal.Sound.SCALE_SOUND, "*");	//!< 音階ノードへのパス
+
 	private final CommonCodeGenerator common;
 	private final VarDeclCodeGenerator varDeclCodeGen;
 
@@ -70,7 +85,7 @@ public class ExpCodeGenerator {
 			return genLiteral(code, expNode, nestLevel, option);
 		}
 		else if (SymbolNames.Literal.LITERAL_EXP_LIST.contains(expSymbolName)) {
-			return genExpression(code, expNode.findSymbolInDescendants("*", "Literal", "*"), nestLevel, option);
+			return genExpression(code, expNode.findSymbolInDescendants(LITERAL_PATH), nestLevel, option);
 		}
 		else if (SymbolNames.PreDefFunc.PREDEF_FUNC_CALL_EXP_LIST.contains(expSymbolName)) {
 			return genPreDefFuncCallExp(code, expNode, nestLevel, option, true);
@@ -98,12 +113,12 @@ public class ExpCodeGenerator {
 		int nestLevel,
 		CompileOption option) {
 
-		SyntaxSymbol leftExp = binaryExpNode.findSymbolInDescendants("*",	SymbolNames.BinaryExp.LEFT_EXP, "*");
+		SyntaxSymbol leftExp = binaryExpNode.findSymbolInDescendants(LEFT_EXP_PATH);
 		String leftExpCode = genExpression(code, leftExp, nestLevel, option);
-		SyntaxSymbol rightExp = binaryExpNode.findSymbolInDescendants("*", SymbolNames.BinaryExp.RIGHT_EXP, "*");
+		SyntaxSymbol rightExp = binaryExpNode.findSymbolInDescendants(RIGHT_EXP_PATH);
 		String rightExpCode = genExpression(code, rightExp, nestLevel, option);
 		String operatorCode = null;
-		TextNode operator = (TextNode)binaryExpNode.findSymbolInDescendants("*", SymbolNames.BinaryExp.OPERATOR, "*");
+		TextNode operator = (TextNode)binaryExpNode.findSymbolInDescendants(OPERATOR_PATH);
 		operatorCode = SymbolNames.BinaryExp.OPERATOR_MAP.get(operator.getText());
 
 		if (leftExp == null || rightExp == null)
@@ -153,7 +168,7 @@ public class ExpCodeGenerator {
 		int nestLevel,
 		CompileOption option) {
 
-		SyntaxSymbol primaryExp = unaryExpNode.findSymbolInDescendants("*",	SymbolNames.UnaryExp.PRIMARY_EXP, "*");
+		SyntaxSymbol primaryExp = unaryExpNode.findSymbolInDescendants(PRIMARY_EXP_PATH);
 		String primaryExpCode = genExpression(code, primaryExp, nestLevel, option);
 		String operatorCode = SymbolNames.UnaryExp.OPERATOR_MAP.get(unaryExpNode.getSymbolName());
 
@@ -346,8 +361,8 @@ public class ExpCodeGenerator {
 		boolean storeRetVal) {
 
 		String funcName = common.genFuncName(((BhNode)funcCallNode).getOriginal());
-		SyntaxSymbol arg = funcCallNode.findSymbolInDescendants("*", SymbolNames.UserDefFunc.ARG, "*");
-		SyntaxSymbol outArg = funcCallNode.findSymbolInDescendants("*", SymbolNames.UserDefFunc.OUT_ARG, "*");
+		SyntaxSymbol arg = funcCallNode.findSymbolInDescendants(USER_DEF_ARG_PATH);
+		SyntaxSymbol outArg = funcCallNode.findSymbolInDescendants(USER_DEF_OUT_ARG_PATH);
 		List<String> argList = genArgList(code, arg, false, nestLevel, option);
 		List<String> outArgList = genArgList(code, outArg, true, nestLevel, option);
 
@@ -423,13 +438,13 @@ public class ExpCodeGenerator {
 		CompileOption option) {
 
 		LinkedList<String> argList;
-		SyntaxSymbol nextArg = argNode.findSymbolInDescendants("*", SymbolNames.UserDefFunc.NEXT_ARG, "*");
+		SyntaxSymbol nextArg = argNode.findSymbolInDescendants(NEXT_ARG_PATH);
 		if (nextArg != null && !nextArg.getSymbolName().equals(SymbolNames.UserDefFunc.ARG_VOID))
 			argList = genArgList(code, nextArg, outArg, nestLevel, option);
 		else
 			argList = new LinkedList<>();
 
-		SyntaxSymbol argument = argNode.findSymbolInDescendants("*", SymbolNames.UserDefFunc.ARG, "*");
+		SyntaxSymbol argument = argNode.findSymbolInDescendants(USER_DEF_ARG_PATH);
 		if (argument != null) {
 			if (outArg)
 				argList.addFirst(genOutArg(code, argument, nestLevel, option));
@@ -454,7 +469,7 @@ public class ExpCodeGenerator {
 		int nestLevel,
 		CompileOption option) {
 
-		SyntaxSymbol arayExp = arrayLenNode.findSymbolInDescendants("*", SymbolNames.Array.ARRAY, "*");
+		SyntaxSymbol arayExp = arrayLenNode.findSymbolInDescendants(ARRAY_PATH);
 		String arrayExpCode = genExpression(code, arayExp, nestLevel, option);
 
 		String tmpVar = common.genVarName(arrayLenNode);
@@ -545,8 +560,8 @@ public class ExpCodeGenerator {
 		int nestLevel,
 		CompileOption option) {
 
-		SyntaxSymbol durationNode = freqSoundLiteralNode.findSymbolInDescendants("*", SymbolNames.Literal.Sound.DURATION, "*");
-		SyntaxSymbol frequencyNode = freqSoundLiteralNode.findSymbolInDescendants("*", SymbolNames.Literal.Sound.FREQUENCY, "*");
+		SyntaxSymbol durationNode = freqSoundLiteralNode.findSymbolInDescendants(DURATION_PATH);
+		SyntaxSymbol frequencyNode = freqSoundLiteralNode.findSymbolInDescendants(FREQUENCY_PATH);
 		String duration = genExpression(code, durationNode, nestLevel, option);
 		String frequency = genExpression(code, frequencyNode, nestLevel, option);
 
@@ -574,9 +589,9 @@ public class ExpCodeGenerator {
 		int nestLevel,
 		CompileOption option) {
 
-		SyntaxSymbol durationNode = scaleSoundLiteralNode.findSymbolInDescendants("*", SymbolNames.Literal.Sound.DURATION, "*");
-		SyntaxSymbol octaveNode = scaleSoundLiteralNode.findSymbolInDescendants("*", SymbolNames.Literal.Sound.OCTAVE, "*");
-		SyntaxSymbol scaleSoundNode = scaleSoundLiteralNode.findSymbolInDescendants("*", SymbolNames.Literal.Sound.SCALE_SOUND, "*");
+		SyntaxSymbol durationNode = scaleSoundLiteralNode.findSymbolInDescendants(DURATION_PATH);
+		SyntaxSymbol octaveNode = scaleSoundLiteralNode.findSymbolInDescendants(OCTAVE_PATH);
+		SyntaxSymbol scaleSoundNode = scaleSoundLiteralNode.findSymbolInDescendants(SCALE_SOUND_PATH);
 
 		// 音階の音から周波数を計算する
 		String duration = genExpression(code, durationNode, nestLevel, option);
@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.List;
 
 import net.seapanda.bunnyhop.model.node.TextNode;
+import net.seapanda.bunnyhop.model.syntaxsynbol.SymbolNamePath;
 import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
 
 /**
@@ -27,6 +28,11 @@ import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
  */
 public class FuncDefCodeGenerator {
 
+	private static final SymbolNamePath FUNC_NAME_PATH = new SymbolNamePath("*", "*", SymbolNames.UserDefFunc.FUNC_NAME, "*");	//!< 関数名ノードへのパス
+	private static final SymbolNamePath PARAM_DECL_PATH = new SymbolNamePath("*", "*", SymbolNames.UserDefFunc.PARAM_DECL, "*");	//!< 仮引数ノードへのパス
+	private static final SymbolNamePath OUT_PARAM_DECL_PATH = new SymbolNamePath("*", "*", SymbolNames.UserDefFunc.OUT_PARAM_DECL, "*");	//!< 出力仮引数ノードへのパス
+	private static final SymbolNamePath STAT_LIST_PATH = new SymbolNamePath("*", "*", SymbolNames.Stat.STAT_LIST, "*");	//!< 関数本体の文ノードへのパス
+
 	private final CommonCodeGenerator common;
 	private final StatCodeGenerator statCodeGen;
 	private final VarDeclCodeGenerator varDeclCodeGen;
@@ -80,12 +86,12 @@ public class FuncDefCodeGenerator {
 			.append("(");
 
 		if (option.withComments) {
-			TextNode funcNameNode = ((TextNode)funcDefNode.findSymbolInDescendants("*", "*", SymbolNames.UserDefFunc.FUNC_NAME, "*"));
+			TextNode funcNameNode = ((TextNode)funcDefNode.findSymbolInDescendants(FUNC_NAME_PATH));
 			code.append(" /*").append(funcNameNode.getText()).append("*/");
 		}
 
-		SyntaxSymbol param = funcDefNode.findSymbolInDescendants("*", "*", SymbolNames.UserDefFunc.PARAM_DECL, "*");
-		SyntaxSymbol outParam = funcDefNode.findSymbolInDescendants("*", "*", SymbolNames.UserDefFunc.OUT_PARAM_DECL, "*");
+		SyntaxSymbol param = funcDefNode.findSymbolInDescendants(PARAM_DECL_PATH);
+		SyntaxSymbol outParam = funcDefNode.findSymbolInDescendants(OUT_PARAM_DECL_PATH);
 		List<String> outArgs = varDeclCodeGen.genParamList(param, outParam, code, nestLevel + 1, option);
 		code.append(") {").append(Keywords.newLine);
 		genFuncDefInner(funcDefNode, code, nestLevel + 1, option);
@@ -111,7 +117,7 @@ public class FuncDefCodeGenerator {
 		code.append(common.indent(nestLevel))
 			.append(ScriptIdentifiers.Label.end).append(" : {").append(Keywords.newLine);
 
-		SyntaxSymbol stat = funcDefNode.findSymbolInDescendants("*", "*", SymbolNames.Stat.STAT_LIST, "*");
+		SyntaxSymbol stat = funcDefNode.findSymbolInDescendants(STAT_LIST_PATH);
 		statCodeGen.genStatement(stat, code, nestLevel + 1, option);
 		code.append(common.indent(nestLevel))
 			.append("}").append(Keywords.newLine);
@@ -16,8 +16,11 @@
 package net.seapanda.bunnyhop.compiler;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import net.seapanda.bunnyhop.model.node.TextNode;
+import net.seapanda.bunnyhop.model.syntaxsynbol.SymbolNamePath;
 import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
 
 /**
@@ -26,6 +29,13 @@ import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
  * */
 public class GlobalDataDeclCodeGenerator {
 
+	/** グローバルデータ名ノードへのパスのリスト */
+	private static final List<SymbolNamePath> DATA_NAME_PATH_LIST =
+		SymbolNames.GlobalData.DATA_NAME_CNCTR_LIST.stream()
+		.map(cnctrName -> new SymbolNamePath("*", cnctrName, "*"))
+		.collect(Collectors.toList());
+	private static final SymbolNamePath NEXT_GLOBAL_DATA_DECL_PATH = new SymbolNamePath("*", SymbolNames.GlobalData.NEXT_GLOBAL_DATA_DECL, "*");	//!< 次のグローバルデータ宣言ノードへのパス
+
 	private final CommonCodeGenerator common;
 	private final ExpCodeGenerator expCodeGen;
 
@@ -70,8 +80,8 @@ public class GlobalDataDeclCodeGenerator {
 			return;
 
 		if (option.withComments) {
-			SymbolNames.GlobalData.DATA_NAME_CNCTR_LIST.stream()
-			.map(cnctrName -> (TextNode)globalDataDeclNode.findSymbolInDescendants("*", cnctrName, "*"))
+			DATA_NAME_PATH_LIST.stream()
+			.map(path -> (TextNode)globalDataDeclNode.findSymbolInDescendants(path))
 			.filter(node -> node != null)
 			.findFirst()
 			.map(node -> node.getText())
@@ -94,7 +104,7 @@ public class GlobalDataDeclCodeGenerator {
 		}
 
 		SyntaxSymbol nextGlobalDataDecl =
-			globalDataDeclNode.findSymbolInDescendants("*", SymbolNames.GlobalData.NEXT_GLOBAL_DATA_DECL, "*");
+			globalDataDeclNode.findSymbolInDescendants(NEXT_GLOBAL_DATA_DECL_PATH);
 		if (nextGlobalDataDecl != null)
 			genGlobalDataDecls(nextGlobalDataDecl, code, nestLevel, option);
 	}
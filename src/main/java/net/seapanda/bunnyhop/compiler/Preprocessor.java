@@ -22,6 +22,7 @@ import java.util.function.Consumer;
 
 import net.seapanda.bunnyhop.model.node.BhNode;
 import net.seapanda.bunnyhop.model.node.TextNode;
+import net.seapanda.bunnyhop.model.syntaxsynbol.SymbolNamePath;
 import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
 import net.seapanda.bunnyhop.modelprocessor.CallbackInvoker;
 
@@ -31,6 +32,10 @@ import net.seapanda.bunnyhop.modelprocessor.CallbackInvoker;
  */
 public class Preprocessor {
 
+	private static final SymbolNamePath ARG0_PATH = new SymbolNamePath("*", "Arg0", "*");	//!< AnyListToStrExp の第1引数ノードへのパス
+	private static final SymbolNamePath LIST_NAME_PATH = new SymbolNamePath("*", SymbolNames.VarDecl.LIST_NAME, "*");	//!< リスト名ノードへのパス
+	private static final SymbolNamePath ARG1_PATH = new SymbolNamePath("*", "Arg1", "*");	//!< AnyListToStrExp の第2引数ノードへのパス
+
 	private static final Map<String, Consumer<SyntaxSymbol>> NODE_NAME_TO_PREPROCESSOR_FUNC =
 		new HashMap<>() {{
 			put(SymbolNames.PreDefFunc.ANY_LIST_TO_STR_EXP, Preprocessor::procAnyListToStrExp);
@@ -58,13 +63,13 @@ public class Preprocessor {
 	 * */
 	private static void procAnyListToStrExp(SyntaxSymbol node) {
 
-		SyntaxSymbol listNode = node.findSymbolInDescendants("*", "Arg0", "*");
-		SyntaxSymbol listNameNode = listNode.findSymbolInDescendants("*", SymbolNames.VarDecl.LIST_NAME ,"*");
+		SyntaxSymbol listNode = node.findSymbolInDescendants(ARG0_PATH);
+		SyntaxSymbol listNameNode = listNode.findSymbolInDescendants(LIST_NAME_PATH);
 		if (!(listNameNode instanceof TextNode))
 			return;
 
 		String listName = ((TextNode)listNameNode).getText();
-		listNameNode = node.findSymbolInDescendants("*", "Arg1", "*");
+		listNameNode = node.findSymbolInDescendants(ARG1_PATH);
 		((TextNode)listNameNode).setText(listName);
 	}
 }
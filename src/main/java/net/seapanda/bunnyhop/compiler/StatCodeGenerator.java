@@ -16,6 +16,7 @@
 package net.seapanda.bunnyhop.compiler;
 
 import net.seapanda.bunnyhop.model.node.BhNode;
+import net.seapanda.bunnyhop.model.syntaxsynbol.SymbolNamePath;
 import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
 
 /**
@@ -24,6 +25,18 @@ import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
  */
 public class StatCodeGenerator {
 
+	private static final SymbolNamePath NEXT_STAT_PATH = new SymbolNamePath("*", SymbolNames.Stat.NEXT_STAT, "*");	//!< 次の文ノードへのパス
+	private static final SymbolNamePath COMPOUND_NEXT_STAT_PATH = new SymbolNamePath("*", "*", SymbolNames.Stat.NEXT_STAT, "*");	//!< 複合文の次の文ノードへのパス
+	private static final SymbolNamePath LEFT_VAR_PATH = new SymbolNamePath("*", SymbolNames.AssignStat.LEFT_VAR, "*");	//!< 代入文の左辺の変数ノードへのパス
+	private static final SymbolNamePath RIGHT_EXP_PATH = new SymbolNamePath("*", SymbolNames.BinaryExp.RIGHT_EXP, "*");	//!< 代入文の右辺ノードへのパス
+	private static final SymbolNamePath COND_EXP_PATH = new SymbolNamePath("*", SymbolNames.ControlStat.COND_EXP, "*");	//!< 条件式ノードへのパス
+	private static final SymbolNamePath THEN_STAT_PATH = new SymbolNamePath("*", SymbolNames.ControlStat.THEN_STAT, "*");	//!< 条件が真のときに実行する文ノードへのパス
+	private static final SymbolNamePath ELSE_STAT_PATH = new SymbolNamePath("*", SymbolNames.ControlStat.ELSE_STAT, "*");	//!< 条件が偽のときに実行する文ノードへのパス
+	private static final SymbolNamePath LOOP_STAT_PATH = new SymbolNamePath("*", SymbolNames.ControlStat.LOOP_STAT, "*");	//!< 繰り返し実行する文ノードへのパス
+	private static final SymbolNamePath LOCAL_VAR_DECL_PATH = new SymbolNamePath("*", "*", SymbolNames.ControlStat.LOCAL_VAR_DECL, "*");	//!< ローカル変数宣言ノードへのパス
+	private static final SymbolNamePath STAT_LIST_PATH = new SymbolNamePath("*", "*", SymbolNames.Stat.STAT_LIST, "*");	//!< 複合文の中の文ノードへのパス
+	private static final SymbolNamePath EXCLUSIVE_STAT_PATH = new SymbolNamePath("*", SymbolNames.ControlStat.EXCLUSIVE_STAT, "*");	//!< 排他実行する文ノードへのパス
+
 	private final CommonCodeGenerator common;
 	private final ExpCodeGenerator expCodeGen;
 	private final VarDeclCodeGenerator varDeclCodeGen;
@@ -70,9 +83,9 @@ public class StatCodeGenerator {
 		else {
 			return;
 		}
-		SyntaxSymbol nextStat = statementNode.findSymbolInDescendants("*", SymbolNames.Stat.NEXT_STAT, "*");
+		SyntaxSymbol nextStat = statementNode.findSymbolInDescendants(NEXT_STAT_PATH);
 		if (nextStat == null)
-			nextStat = statementNode.findSymbolInDescendants("*", "*", SymbolNames.Stat.NEXT_STAT, "*");	//for compoundStat
+			nextStat = statementNode.findSymbolInDescendants(COMPOUND_NEXT_STAT_PATH);	//for compoundStat
 
 		if (nextStat != null)
 			genStatement(nextStat, code, nestLevel, option);
@@ -92,13 +105,13 @@ public class StatCodeGenerator {
 		int nestLevel,
 		CompileOption option) {
 
-		SyntaxSymbol varSymbol = assignStatNode.findSymbolInDescendants("*", SymbolNames.AssignStat.LEFT_VAR, "*");
+		SyntaxSymbol varSymbol = assignStatNode.findSymbolInDescendants(LEFT_VAR_PATH);
 		String varName = null;
 		if (SymbolNames.VarDecl.VAR_LIST.contains(varSymbol.getSymbolName())) {	//varNode である
 			varName = expCodeGen.genExpression(code, varSymbol, nestLevel, option);
 		}
 
-		SyntaxSymbol rightExp = assignStatNode.findSymbolInDescendants("*", SymbolNames.BinaryExp.RIGHT_EXP, "*");
+		SyntaxSymbol rightExp = assignStatNode.findSymbolInDescendants(RIGHT_EXP_PATH);
 		String rightExpCode = expCodeGen.genExpression(code, rightExp, nestLevel, option);
 		if (varName == null || rightExpCode == null)
 			return;
@@ -185,7 +198,7 @@ public class StatCodeGenerator {
 		CompileOption option) {
 
 		//conditional part
-		SyntaxSymbol condExp = ifElseStatNode.findSymbolInDescendants("*", SymbolNames.ControlStat.COND_EXP, "*");
+		SyntaxSymbol condExp = ifElseStatNode.findSymbolInDescendants(COND_EXP_PATH);
 		String condExpCode = expCodeGen.genExpression(code, condExp, nestLevel, option);
 		code.append(common.indent(nestLevel))
 			.append(Keywords.JS._if_)
@@ -195,14 +208,14 @@ public class StatCodeGenerator {
 			.append(Keywords.newLine);
 
 		//then part
-		SyntaxSymbol thenStat = ifElseStatNode.findSymbolInDescendants("*", SymbolNames.ControlStat.THEN_STAT, "*");
+		SyntaxSymbol thenStat = ifElseStatNode.findSymbolInDescendants(THEN_STAT_PATH);
 		genStatement(thenStat, code, nestLevel + 1, option);
 		code.append(common.indent(nestLevel))
 			.append("}")
 			.append(Keywords.newLine);
 
 		//else part
-		SyntaxSymbol elseStat = ifElseStatNode.findSymbolInDescendants("*", SymbolNames.ControlStat.ELSE_STAT, "*");
+		SyntaxSymbol elseStat = ifElseStatNode.findSymbolInDescendants(ELSE_STAT_PATH);
 		if (elseStat != null) {
 			code.append(common.indent(nestLevel))
 				.append(Keywords.JS._else_)
@@ -233,7 +246,7 @@ public class StatCodeGenerator {
 			.append(Keywords.JS._true)
 			.append(") {").append(Keywords.newLine);
 
-		SyntaxSymbol condExp = whileStatNode.findSymbolInDescendants("*", SymbolNames.ControlStat.COND_EXP, "*");
+		SyntaxSymbol condExp = whileStatNode.findSymbolInDescendants(COND_EXP_PATH);
 		String condExpCode = expCodeGen.genExpression(code, condExp, nestLevel+1, option);
 		code.append(common.indent(nestLevel + 1))
 			.append(Keywords.JS._if_)
@@ -246,7 +259,7 @@ public class StatCodeGenerator {
 			.append("}").append(Keywords.newLine);
 
 		//loop part
-		SyntaxSymbol loopStat = whileStatNode.findSymbolInDescendants("*", SymbolNames.ControlStat.LOOP_STAT, "*");
+		SyntaxSymbol loopStat = whileStatNode.findSymbolInDescendants(LOOP_STAT_PATH);
 		genStatement(loopStat, code, nestLevel + 1, option);
 		code.append(common.indent(nestLevel))
 			.append("}").append(Keywords.newLine);
@@ -267,9 +280,9 @@ public class StatCodeGenerator {
 
 		code.append(common.indent(nestLevel))
 			.append("{").append(Keywords.newLine);
-		SyntaxSymbol param = compoundStatNode.findSymbolInDescendants("*", "*", SymbolNames.ControlStat.LOCAL_VAR_DECL, "*");
+		SyntaxSymbol param = compoundStatNode.findSymbolInDescendants(LOCAL_VAR_DECL_PATH);
 		varDeclCodeGen.genVarDecls(param, code, nestLevel + 1, option);
-		SyntaxSymbol stat = compoundStatNode.findSymbolInDescendants("*", "*", SymbolNames.Stat.STAT_LIST, "*");
+		SyntaxSymbol stat = compoundStatNode.findSymbolInDescendants(STAT_LIST_PATH);
 		genStatement(stat, code, nestLevel + 1, option);
 		code.append(common.indent(nestLevel))
 			.append("}").append(Keywords.newLine);
@@ -288,7 +301,7 @@ public class StatCodeGenerator {
 		int nestLevel,
 		CompileOption option) {
 
-		SyntaxSymbol condExp = repeatStatNode.findSymbolInDescendants("*", SymbolNames.ControlStat.COND_EXP, "*");
+		SyntaxSymbol condExp = repeatStatNode.findSymbolInDescendants(COND_EXP_PATH);
 		String condExpCode = expCodeGen.genExpression(code, condExp, nestLevel, option);
 		String loopCounter = common.genVarName(repeatStatNode);
 		String numRepetitionVar = "_" + loopCounter;
@@ -317,7 +330,7 @@ public class StatCodeGenerator {
 			.append(") {").append(Keywords.newLine);
 
 		//loop part
-		SyntaxSymbol loopStat = repeatStatNode.findSymbolInDescendants("*", SymbolNames.ControlStat.LOOP_STAT, "*");
+		SyntaxSymbol loopStat = repeatStatNode.findSymbolInDescendants(LOOP_STAT_PATH);
 		genStatement(loopStat, code, nestLevel+1, option);
 		code.append(common.indent(nestLevel))
 			.append("}").append(Keywords.newLine);
@@ -349,7 +362,7 @@ public class StatCodeGenerator {
 			.append(";").append(Keywords.newLine);
 
 		SyntaxSymbol exclusiveStat =
-			criticalSctnNode.findSymbolInDescendants("*", SymbolNames.ControlStat.EXCLUSIVE_STAT, "*");
+			criticalSctnNode.findSymbolInDescendants(EXCLUSIVE_STAT_PATH);
 		genStatement(exclusiveStat, code, nestLevel + 1, option);
 
 		// end of "try {"
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import net.seapanda.bunnyhop.model.node.TextNode;
+import net.seapanda.bunnyhop.model.syntaxsynbol.SymbolNamePath;
 import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
 
 /**
@@ -29,6 +30,13 @@ import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
  */
 final public class VarDeclCodeGenerator {
 
+	/** 変数名ノードへのパスのリスト */
+	private static final List<SymbolNamePath> VAR_NAME_PATH_LIST =
+		SymbolNames.VarDecl.VAR_NAME_CNCTR_LIST.stream()
+		.map(cnctrName -> new SymbolNamePath("*", cnctrName, "*"))
+		.collect(Collectors.toList());
+	private static final SymbolNamePath NEXT_VAR_DECL_PATH = new SymbolNamePath("*", SymbolNames.VarDecl.NEXT_VAR_DECL, "*");	//!< 次の変数宣言ノードへのパス
+
 	private final CommonCodeGenerator common;
 
 	public VarDeclCodeGenerator(CommonCodeGenerator common) {
@@ -133,8 +141,8 @@ final public class VarDeclCodeGenerator {
 			return;
 
 		String comment =
-			SymbolNames.VarDecl.VAR_NAME_CNCTR_LIST.stream()
-			.map(cnctrName -> (TextNode)varDeclNode.findSymbolInDescendants("*", cnctrName, "*"))
+			VAR_NAME_PATH_LIST.stream()
+			.map(path -> (TextNode)varDeclNode.findSymbolInDescendants(path))
 			.filter(node -> node != null)
 			.findFirst()
 			.map(node -> node.getText()).orElse("");
@@ -142,7 +150,7 @@ final public class VarDeclCodeGenerator {
 		String initVal = SymbolNames.VarDecl.INIT_VAL_MAP.get(varDeclNode.getSymbolName());
 		varDeclInfoList.add(new VarDeclInfo(varName, initVal, comment));
 
-        SyntaxSymbol nextVarDecl = varDeclNode.findSymbolInDescendants("*", SymbolNames.VarDecl.NEXT_VAR_DECL, "*");
+        SyntaxSymbol nextVarDecl = varDeclNode.findSymbolInDescendants(NEXT_VAR_DECL_PATH);
         if (nextVarDecl != null)
         	genVarDeclInfos(nextVarDecl, varDeclInfoList);
 	}
@@ -71,6 +71,14 @@ public class BhScriptManager {
 		return scriptNameToScript.get(fileName);
 	}
 
+	/**
+	 * コンパイル済みスクリプトの数を返す
+	 * @return コンパイル済みスクリプトの数
+	 */
+	public int getNumCompiledScripts() {
+		return scriptNameToScript.size();
+	}
+
 	/**
 	 * Javascriptファイルを読み込み、コンパイルする
 	 * @param dirPaths このフォルダの下にある.jsファイルをコンパイルする
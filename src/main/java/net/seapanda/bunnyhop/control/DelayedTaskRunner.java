@@ -0,0 +1,90 @@
+/**
+ * Copyright 2017 K.Koike
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.seapanda.bunnyhop.control;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * ユーザ操作の後処理を, 操作結果の描画を終えた後に実行するクラス. <br>
+ * 予約された処理は, 予約後 2 回目のパルス (1 回目のパルスで操作結果が描画される) か,
+ * 次のユーザ操作の処理前のいずれか早い方で実行される. <br>
+ * FX アプリケーションスレッドからのみ使用すること.
+ * @author K.Koike
+ */
+public class DelayedTaskRunner {
+
+	public static final DelayedTaskRunner INSTANCE = new DelayedTaskRunner();	//!< シングルトンインスタンス
+	private static final int NUM_PULSES_TO_WAIT = 2;	//!< 予約された処理を実行するまでに待つパルス数
+	private Runnable pendingTask = null;	//!< 実行を遅らせている処理. 無い場合は null.
+	private int numPulsesLeft = 0;	//!< 予約された処理を実行するまでの残りのパルス数
+	/** パルスごとに呼ばれ, 予約された処理の実行時期を判断する */
+	private final AnimationTimer pulseCounter = new AnimationTimer() {
+		@Override
+		public void handle(long now) {
+			--numPulsesLeft;
+			if (numPulsesLeft <= 0)
+				runPendingTask();
+		}
+	};
+
+	private DelayedTaskRunner() {}
+
+	/**
+	 * 処理の実行を予約する. <br>
+	 * 既に予約されている処理がある場合, それを実行してから新しい処理を予約する.
+	 * @param task 実行を予約する処理
+	 */
+	public void schedule(Runnable task) {
+
+		runPendingTask();
+		pendingTask = task;
+		numPulsesLeft = NUM_PULSES_TO_WAIT;
+		pulseCounter.start();
+	}
+
+	/**
+	 * 予約されている処理があれば直ちに実行する. <br>
+	 * ユーザ操作を受け付ける全てのイベントハンドラは, モデルを読み書きする前にこれを呼ぶこと.
+	 * モデルの読み取りロックを取得した状態で呼んではならない.
+	 */
+	public void runPendingTask() {
+
+		if (pendingTask == null)
+			return;
+
+		pulseCounter.stop();
+		Runnable task = pendingTask;
+		pendingTask = null;
+		task.run();
+	}
+}
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
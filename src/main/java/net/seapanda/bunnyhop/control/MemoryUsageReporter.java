@@ -0,0 +1,451 @@
+/**
+ * Copyright 2017 K.Koike
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.seapanda.bunnyhop.control;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.stage.Window;
+import net.seapanda.bunnyhop.common.Linkable;
+import net.seapanda.bunnyhop.common.constant.BhParams;
+import net.seapanda.bunnyhop.common.tools.MsgPrinter;
+import net.seapanda.bunnyhop.common.tools.Util;
+import net.seapanda.bunnyhop.configfilereader.BhScriptManager;
+import net.seapanda.bunnyhop.message.MsgService;
+import net.seapanda.bunnyhop.model.node.BhNode;
+import net.seapanda.bunnyhop.model.node.attribute.BhNodeID;
+import net.seapanda.bunnyhop.model.node.attribute.BhNodeViewType;
+import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
+import net.seapanda.bunnyhop.model.templates.BhNodeTemplates;
+import net.seapanda.bunnyhop.model.workspace.Workspace;
+import net.seapanda.bunnyhop.model.workspace.WorkspaceSet;
+import net.seapanda.bunnyhop.modelprocessor.CallbackInvoker;
+import net.seapanda.bunnyhop.quadtree.QuadTreeManager;
+import net.seapanda.bunnyhop.quadtree.QuadTreeRectangle;
+import net.seapanda.bunnyhop.undo.UserOperationCommand;
+import net.seapanda.bunnyhop.view.node.BhNodeView;
+import net.seapanda.bunnyhop.view.workspace.WorkspaceView;
+
+/**
+ * ノードの種類ごと, サブシステムごとのおおよそのメモリ使用量をファイルに出力するクラス. <br>
+ * ヒープダンプを取らずに済むように, 各オブジェクトのサイズはフィールドの参照をリフレクションでたどって見積もる.
+ * たどったオブジェクトは一度だけ数え, 最初にたどり着いた持ち主に計上する.
+ * 他のノード, ノードビュー, テンプレートノード, 全体で共有するオブジェクトより先はたどらない.
+ * リフレクションによるアクセスを許可していないモジュールのオブジェクトは, そのオブジェクトの分だけを数える.
+ * @author K.Koike
+ */
+class MemoryUsageReporter {
+
+	public static final MemoryUsageReporter INSTANCE = new MemoryUsageReporter();	//!< シングルトンインスタンス
+	private static final int OBJ_HEADER_SIZE = 12;	//!< オブジェクトヘッダのバイト数 (64bit JVM, 圧縮参照を想定)
+	private static final int ARRAY_HEADER_SIZE = 16;	//!< 配列のヘッダのバイト数 (64bit JVM, 圧縮参照を想定)
+	private static final int REFERENCE_SIZE = 4;	//!< 参照のバイト数 (圧縮参照を想定)
+	private static final int OBJ_ALIGNMENT = 8;	//!< オブジェクトのアライメント
+	private static final long MIB = 1024 * 1024;
+	private static final String RHINO_PACKAGE = "org.mozilla.javascript.";	//!< 全ノードで共有する Rhino のオブジェクトのパッケージ
+	private final Map<Class<?>, Long> classToShallowSize = new HashMap<>();	//!< クラスとそのインスタンスの見積もりサイズのマップ
+	private final Map<Class<?>, List<Field>> classToRefFields = new HashMap<>();	//!< クラスとそのインスタンスのたどれる参照型フィールドのマップ
+
+	private MemoryUsageReporter() {}
+
+	/**
+	 * 引数で指定したワークスペースセットのメモリ使用量レポートをファイルに出力する.
+	 * @param wss このワークスペースセットにあるノードのメモリ使用量を調べる
+	 * @return 出力したファイルのパス. 出力に失敗した場合 empty.
+	 */
+	public Optional<Path> report(WorkspaceSet wss) {
+
+		String timeStamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+		Path reportFilePath = Paths.get(
+			Util.INSTANCE.EXEC_PATH,
+			BhParams.Path.LOG_DIR,
+			BhParams.Path.MEMORY_REPORT_FILE_NAME + "_" + timeStamp + ".txt");
+
+		if (!Util.INSTANCE.createDirectoryIfNotExists(reportFilePath.getParent())) {
+			MsgPrinter.INSTANCE.errMsgForDebug(getClass().getSimpleName() + ".report\n" + "failed to create " + reportFilePath.getParent());
+			return Optional.empty();
+		}
+
+		try {
+			Files.write(reportFilePath, genReport(wss).getBytes(StandardCharsets.UTF_8));
+		}
+		catch (IOException | SecurityException e) {
+			MsgPrinter.INSTANCE.alert(
+				Alert.AlertType.ERROR,
+				"メモリ使用量レポートの出力に失敗しました",
+				null,
+				reportFilePath + "\n" + e.toString());
+			return Optional.empty();
+		}
+		return Optional.of(reportFilePath);
+	}
+
+	/**
+	 * メモリ使用量レポートの文字列を作成する
+	 * @param wss このワークスペースセットにあるノードのメモリ使用量を調べる
+	 * @return メモリ使用量レポートの文字列
+	 */
+	private String genReport(WorkspaceSet wss) {
+
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());	// 見積もり済みのオブジェクト
+		Set<QuadTreeRectangle> rects = Collections.newSetFromMap(new IdentityHashMap<>());	// ノードビューが持つ4分木空間の矩形
+		Map<BhNodeID, NodeTypeUsage> idToUsage = new HashMap<>();
+		Usage symbolUsage = new Usage();	// セクションとコネクタ
+		var registry = CallbackInvoker.newCallbackRegistry().setForAllSyntaxSymbols(
+			symbol -> {
+				if (symbol instanceof BhNode)
+					collectNodeUsage((BhNode)symbol, idToUsage, rects, visited);
+				else
+					symbolUsage.add(estimateRetainedSize(symbol, this::isOutsideOfModel, visited));
+			});
+
+		for (Workspace ws : wss.getWorkspaceList())
+			ws.getRootNodeList().forEach(root -> CallbackInvoker.invoke(registry, root));
+
+		Usage rectUsage = new Usage();	// 4分木空間に登録する矩形
+		for (QuadTreeRectangle rect : rects)
+			rectUsage.add(estimateRetainedSize(rect, obj -> obj instanceof Linkable || obj instanceof BhNodeView, visited));
+
+		// ワークスペース上のノードとビューは見積もり済みなので, 削除されて undo, redo のコマンドだけが持つものが数えられる
+		Usage undoUsage = new Usage();
+		for (UserOperationCommand cmd : MsgService.INSTANCE.getUndoRedoCommands(wss))
+			undoUsage.add(estimateRetainedSize(cmd, obj -> obj instanceof Node && ((Node)obj).getScene() != null, visited));
+
+		Usage modelUsage = new Usage();
+		Usage viewUsage = new Usage();
+		idToUsage.values().forEach(usage -> {
+			modelUsage.add(usage.model);
+			viewUsage.add(usage.view);
+		});
+
+		Runtime runtime = Runtime.getRuntime();
+		var report = new StringBuilder();
+		report.append("-- BunnyHop memory usage report (" + LocalDateTime.now() + ") --\n")
+			.append("Sizes are estimated by following fields reflectively. Each object is counted once, for the first owner reached.\n")
+			.append("Walks stop at other nodes, node views, node templates and shared objects.\n")
+			.append("Objects in modules closed to reflection are counted without the objects they refer to.\n\n")
+			.append(String.format("JVM heap: used %d MiB / total %d MiB / max %d MiB\n\n",
+				(runtime.totalMemory() - runtime.freeMemory()) / MIB, runtime.totalMemory() / MIB, runtime.maxMemory() / MIB))
+			.append("[Subsystems]\n")
+			.append(String.format("%-32s %10s %14s\n", "", "objects", "approx bytes"))
+			.append(String.format("%-32s %10d %14d\n", "BhNode models", modelUsage.count, modelUsage.bytes))
+			.append(String.format("%-32s %10d %14d\n", "Sections and connectors", symbolUsage.count, symbolUsage.bytes))
+			.append(String.format("%-32s %10d %14d\n", "BhNodeView views (incl. JavaFX)", viewUsage.count, viewUsage.bytes))
+			.append(String.format("%-32s %10d %14d\n", "Quadtree rectangles", rectUsage.count, rectUsage.bytes))
+			.append(String.format("%-32s %10d %14d\n", "Undo/redo commands", undoUsage.count, undoUsage.bytes))
+			.append("Undo history: " + MsgService.INSTANCE.getUndoRedoCommandStatistics(wss) + "\n")
+			.append("Rhino: " + BhScriptManager.INSTANCE.getNumCompiledScripts()
+				+ " compiled scripts shared by all nodes (script scopes are created per event and not retained)\n\n")
+			.append("[Node types]\n")
+			.append(String.format("%-40s %8s %12s %8s %12s %12s\n",
+				"BhNodeID", "models", "model bytes", "views", "view bytes", "total bytes"));
+
+		List<Map.Entry<BhNodeID, NodeTypeUsage>> entries = new ArrayList<>(idToUsage.entrySet());
+		entries.sort((a, b) -> Long.compare(b.getValue().totalBytes(), a.getValue().totalBytes()));
+		for (Map.Entry<BhNodeID, NodeTypeUsage> entry : entries) {
+			NodeTypeUsage usage = entry.getValue();
+			report.append(String.format("%-40s %8d %12d %8d %12d %12d\n",
+				entry.getKey(), usage.model.count, usage.model.bytes, usage.view.count, usage.view.bytes, usage.totalBytes()));
+		}
+		return report.toString();
+	}
+
+	/**
+	 * ノードとそのビューのメモリ使用量を集計する
+	 * @param node メモリ使用量を調べるノード
+	 * @param idToUsage ノードIDとそのIDを持つノードのメモリ使用量のマップ
+	 * @param rects ノードビューが持つ4分木空間の矩形を格納するセット
+	 * @param visited 見積もり済みのオブジェクトの集合
+	 */
+	private void collectNodeUsage(
+		BhNode node, Map<BhNodeID, NodeTypeUsage> idToUsage, Set<QuadTreeRectangle> rects, Set<Object> visited) {
+
+		NodeTypeUsage usage = idToUsage.computeIfAbsent(node.getID(), id -> new NodeTypeUsage());
+		usage.model.add(estimateRetainedSize(node, this::isOutsideOfModel, visited));
+		if (node.getType().equals(BhNodeViewType.NO_VIEW))
+			return;
+
+		BhNodeView view = MsgService.INSTANCE.getBhNodeView(node);
+		if (view == null)
+			return;
+
+		Set<Node> ownedFxNodes = collectOwnedFxNodes(view);
+		usage.view.add(estimateRetainedSize(
+			view,
+			obj -> {
+				// 4分木空間の矩形は別に集計する
+				if (obj instanceof QuadTreeRectangle) {
+					rects.add((QuadTreeRectangle)obj);
+					return true;
+				}
+				return obj instanceof SyntaxSymbol || (obj instanceof Node && !ownedFxNodes.contains(obj));
+			},
+			visited));
+	}
+
+	/**
+	 * モデルのサイズを見積もるときにたどらないオブジェクトかどうか調べる
+	 * @param obj 調べるオブジェクト
+	 * @return 他のシンボル (ノード, セクション, コネクタ) もしくは JavaFX のノードである場合 true
+	 */
+	private boolean isOutsideOfModel(Object obj) {
+		return obj instanceof SyntaxSymbol || obj instanceof Node;
+	}
+
+	/**
+	 * ノードビューとその下にある JavaFX のノードを集める. (子ノードのビューとその下にある JavaFX のノードは含まない)
+	 * @param view このノードビューが持つ JavaFX のノードを集める
+	 * @return ノードビューとその下にある JavaFX のノードの集合
+	 */
+	private Set<Node> collectOwnedFxNodes(BhNodeView view) {
+
+		Set<Node> ownedFxNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<Node> fxNodes = new ArrayDeque<>();
+		fxNodes.push(view);
+		while (!fxNodes.isEmpty()) {
+			Node fxNode = fxNodes.pop();
+			ownedFxNodes.add(fxNode);
+			if (fxNode instanceof Parent) {
+				for (Node child : ((Parent)fxNode).getChildrenUnmodifiable()) {
+					if (!(child instanceof BhNodeView))
+						fxNodes.push(child);
+				}
+			}
+		}
+		return ownedFxNodes;
+	}
+
+	/**
+	 * 引数で指定したオブジェクトからフィールドの参照をたどって到達できるオブジェクトのサイズの合計を見積もる. <br>
+	 * 見積もり済みのオブジェクト, 全体で共有するオブジェクト, {@code isBoundary} が true を返すオブジェクトより先はたどらない.
+	 * @param root サイズを見積もるオブジェクト
+	 * @param isBoundary たどらないオブジェクトを判定する関数. {@code root} には適用しない.
+	 * @param visited 見積もり済みのオブジェクトの集合. 見積もったオブジェクトが追加される.
+	 * @return {@code root} とそこからたどったオブジェクトの見積もりサイズの合計. {@code root} が見積もり済みの場合 0.
+	 */
+	private long estimateRetainedSize(Object root, Predicate<Object> isBoundary, Set<Object> visited) {
+
+		if (root == null || !visited.add(root))
+			return 0;
+
+		long size = 0;
+		Deque<Object> objs = new ArrayDeque<>();
+		objs.push(root);
+		while (!objs.isEmpty()) {
+			Object obj = objs.pop();
+			Class<?> cls = obj.getClass();
+			if (cls.isArray()) {
+				size += estimateArraySize(obj);
+				if (obj instanceof Object[]) {
+					for (Object elem : (Object[])obj)
+						pushIfOwned(elem, objs, isBoundary, visited);
+				}
+				continue;
+			}
+
+			size += estimateShallowSize(cls);
+			for (Field field : getRefFields(cls)) {
+				try {
+					pushIfOwned(field.get(obj), objs, isBoundary, visited);
+				}
+				catch (IllegalAccessException e) {}
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * 引数で指定したオブジェクトがたどる対象である場合, 見積もり済みにしてスタックに追加する
+	 * @param obj 調べるオブジェクト
+	 * @param objs たどるオブジェクトのスタック
+	 * @param isBoundary たどらないオブジェクトを判定する関数
+	 * @param visited 見積もり済みのオブジェクトの集合
+	 */
+	private void pushIfOwned(Object obj, Deque<Object> objs, Predicate<Object> isBoundary, Set<Object> visited) {
+
+		if (obj == null || isShared(obj) || isBoundary.test(obj) || !visited.add(obj))
+			return;
+
+		objs.push(obj);
+	}
+
+	/**
+	 * 引数で指定したオブジェクトが, 特定のノードやビューが持つものではなく全体で共有するものかどうか調べる
+	 * @param obj 調べるオブジェクト
+	 * @return 全体で共有するオブジェクトの場合 true
+	 */
+	private boolean isShared(Object obj) {
+
+		return obj instanceof Class
+			|| obj instanceof ClassLoader
+			|| obj instanceof Thread
+			|| obj instanceof Enum
+			|| obj instanceof Workspace
+			|| obj instanceof WorkspaceSet
+			|| obj instanceof WorkspaceView
+			|| obj instanceof Scene
+			|| obj instanceof Window
+			|| obj instanceof QuadTreeManager
+			|| obj.getClass().getName().startsWith(RHINO_PACKAGE)
+			|| (obj instanceof BhNode && BhNodeTemplates.INSTANCE.isTemplate((BhNode)obj));
+	}
+
+	/**
+	 * 引数で指定したクラスのインスタンスが持つ参照型のフィールドのうち, 値を読み出せるものを返す
+	 * @param cls このクラスのインスタンスが持つフィールドを返す
+	 * @return {@code cls} のインスタンスが持つ参照型のフィールドのうち, 値を読み出せるもののリスト
+	 */
+	private List<Field> getRefFields(Class<?> cls) {
+
+		List<Field> cached = classToRefFields.get(cls);
+		if (cached != null)
+			return cached;
+
+		var refFields = new ArrayList<Field>();
+		for (Class<?> c = cls; c != null; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive())
+					continue;
+				try {
+					if (field.trySetAccessible())
+						refFields.add(field);
+				}
+				catch (SecurityException e) {}
+			}
+		}
+		classToRefFields.put(cls, refFields);
+		return refFields;
+	}
+
+	/**
+	 * 引数で指定した配列のサイズを見積もる
+	 * @param array サイズを見積もる配列
+	 * @return {@code array} の見積もりサイズ (要素が参照するオブジェクトは含まない)
+	 */
+	private long estimateArraySize(Object array) {
+
+		Class<?> componentType = array.getClass().getComponentType();
+		long size = ARRAY_HEADER_SIZE + (long)Array.getLength(array) * fieldSize(componentType);
+		return (size + OBJ_ALIGNMENT - 1) / OBJ_ALIGNMENT * OBJ_ALIGNMENT;
+	}
+
+	/**
+	 * 引数で指定したクラスのインスタンス1つ分のサイズをフィールド構成から見積もる
+	 * @param cls サイズを見積もるクラス
+	 * @return {@code cls} のインスタンス1つ分の見積もりサイズ
+	 */
+	private long estimateShallowSize(Class<?> cls) {
+
+		Long cached = classToShallowSize.get(cls);
+		if (cached != null)
+			return cached;
+
+		long size = OBJ_HEADER_SIZE;
+		for (Class<?> c = cls; c != null; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers()))
+					size += fieldSize(field.getType());
+			}
+		}
+		size = (size + OBJ_ALIGNMENT - 1) / OBJ_ALIGNMENT * OBJ_ALIGNMENT;
+		classToShallowSize.put(cls, size);
+		return size;
+	}
+
+	/**
+	 * フィールドのバイト数を返す
+	 * @param type フィールドの型
+	 * @return フィールドのバイト数
+	 */
+	private int fieldSize(Class<?> type) {
+
+		if (type == long.class || type == double.class)
+			return 8;
+		else if (type == int.class || type == float.class)
+			return 4;
+		else if (type == short.class || type == char.class)
+			return 2;
+		else if (type == byte.class || type == boolean.class)
+			return 1;
+
+		return REFERENCE_SIZE;
+	}
+
+	/**
+	 * オブジェクトの数と見積もりサイズの合計
+	 */
+	private static class Usage {
+
+		int count = 0;
+		long bytes = 0;
+
+		void add(long size) {
+			++count;
+			bytes += size;
+		}
+
+		void add(Usage usage) {
+			count += usage.count;
+			bytes += usage.bytes;
+		}
+	}
+
+	/**
+	 * 1種類のノードのモデルとビューのメモリ使用量
+	 */
+	private static class NodeTypeUsage {
+
+		final Usage model = new Usage();
+		final Usage view = new Usage();
+
+		long totalBytes() {
+			return model.bytes + view.bytes;
+		}
+	}
+}
+
+
+
+
+
+
+
+
+
+
@@ -22,6 +22,7 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.CheckMenuItem;
 import javafx.scene.control.MenuBar;
 import javafx.scene.control.MenuItem;
 import javafx.stage.FileChooser;
@@ -31,6 +32,7 @@ import net.seapanda.bunnyhop.common.tools.Util;
 import net.seapanda.bunnyhop.message.MsgService;
 import net.seapanda.bunnyhop.model.workspace.WorkspaceSet;
 import net.seapanda.bunnyhop.modelservice.ModelExclusiveControl;
+import net.seapanda.bunnyhop.view.node.BhNodeViewArranger;
 import net.seapanda.bunnyhop.view.nodeselection.BhNodeSelectionService;
 
 /**
@@ -45,6 +47,8 @@ public class MenuBarController {
 	@FXML private MenuItem saveAsMenu;
 	@FXML private MenuItem aboutBunnyHop;
 	@FXML private MenuItem freeMemory;
+	@FXML private MenuItem memoryUsageReport;
+	@FXML private CheckMenuItem canvasRendering;
 	private File currentSaveFile;	//!< 現在保存対象になっているファイル
 
 	/**
@@ -57,6 +61,8 @@ public class MenuBarController {
 		setSaveHandler(wss);
 		setLoadHandler(wss);
 		setFreeMemoryHandler(wss);
+		setMemoryUsageReportHandler(wss);
+		setCanvasRenderingHandler(wss);
 		setAboutBunnyHopHandler();
 	}
 
@@ -66,6 +72,7 @@ public class MenuBarController {
 	 */
 	private void setSaveAsHandler(WorkspaceSet wss) {
 		saveAsMenu.setOnAction(action -> {
+			DelayedTaskRunner.INSTANCE.runPendingTask();
 			saveAs(wss);
 		});
 	}
@@ -117,6 +124,7 @@ public class MenuBarController {
 	 */
 	private void setSaveHandler(WorkspaceSet wss) {
 		saveMenu.setOnAction(action -> {
+			DelayedTaskRunner.INSTANCE.runPendingTask();
 			save(wss);
 		});
 	}
@@ -157,6 +165,7 @@ public class MenuBarController {
 	private void setLoadHandler(WorkspaceSet wss) {
 
 		loadMenu.setOnAction(action -> {
+			DelayedTaskRunner.INSTANCE.runPendingTask();
 			FileChooser fileChooser = new FileChooser();
 			fileChooser.setTitle("開く");
 			fileChooser.setInitialDirectory(getInitDir());
@@ -169,7 +178,14 @@ public class MenuBarController {
 			if (selectedFile != null) {
 				success = askIfClearOldWs()
 					.map(clearWS -> {
-							boolean isLoadSuccessful = wss.load(selectedFile, clearWS);
+							boolean isLoadSuccessful;
+							BhNodeViewArranger.INSTANCE.beginBatch();
+							try {
+								isLoadSuccessful = wss.load(selectedFile, clearWS);
+							}
+							finally {
+								BhNodeViewArranger.INSTANCE.endBatch();
+							}
 							if (!isLoadSuccessful) {
 								String fileName = selectedFile.getPath();
 								MsgPrinter.INSTANCE.alert(
@@ -241,6 +257,7 @@ public class MenuBarController {
 	private void setFreeMemoryHandler(WorkspaceSet wss) {
 
 		freeMemory.setOnAction(action -> {
+			DelayedTaskRunner.INSTANCE.runPendingTask();
 			ModelExclusiveControl.INSTANCE.lockForModification();
 			try {
 				freeMemory(wss);
@@ -261,6 +278,36 @@ public class MenuBarController {
 		System.gc();
 	}
 
+	/**
+	 * メモリ使用量レポートを出力するハンドラをセットする
+	 * @param wss ワークスペースセット
+	 */
+	private void setMemoryUsageReportHandler(WorkspaceSet wss) {
+
+		memoryUsageReport.setOnAction(action -> {
+			DelayedTaskRunner.INSTANCE.runPendingTask();
+			ModelExclusiveControl.INSTANCE.lockForRead();
+			try {
+				MemoryUsageReporter.INSTANCE.report(wss).ifPresent(
+					reportFile -> MsgPrinter.INSTANCE.msgForUser("メモリ使用量レポートを出力しました (" + reportFile + ")\n"));
+			}
+			finally {
+				ModelExclusiveControl.INSTANCE.unlockForRead();
+			}
+		});
+	}
+
+	/**
+	 * 操作対象でないノードをキャンバスにまとめて描画するかどうかを切り替えるハンドラをセットする
+	 * @param wss ワークスペースセット
+	 */
+	private void setCanvasRenderingHandler(WorkspaceSet wss) {
+
+		canvasRendering.setOnAction(action -> {
+			MsgService.INSTANCE.setCanvasRenderingEnabled(wss, canvasRendering.isSelected());
+		});
+	}
+
 	/**
 	 * BunnyHopの基本情報を表示するハンドラを登録する
 	 */
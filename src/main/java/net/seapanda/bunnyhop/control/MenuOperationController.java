@@ -61,6 +61,7 @@ import net.seapanda.bunnyhop.modelservice.ModelExclusiveControl;
 import net.seapanda.bunnyhop.modelservice.SyntaxErrorNodeManager;
 import net.seapanda.bunnyhop.root.BunnyHop;
 import net.seapanda.bunnyhop.undo.UserOperationCommand;
+import net.seapanda.bunnyhop.view.node.BhNodeViewArranger;
 import net.seapanda.bunnyhop.view.nodeselection.BhNodeSelectionService;
 
 /**
@@ -136,6 +137,7 @@ public class MenuOperationController {
 
 		copyBtn.setOnAction(
 			action -> {
+				DelayedTaskRunner.INSTANCE.runPendingTask();
 				ModelExclusiveControl.INSTANCE.lockForModification();
 				try {
 					Workspace currentWS = wss.getCurrentWorkspace();
@@ -160,6 +162,7 @@ public class MenuOperationController {
 
 		cutBtn.setOnAction(
 			action -> {
+				DelayedTaskRunner.INSTANCE.runPendingTask();
 				ModelExclusiveControl.INSTANCE.lockForModification();
 				try {
 					Workspace currentWS = wss.getCurrentWorkspace();
@@ -185,6 +188,7 @@ public class MenuOperationController {
 
 		pasteBtn.setOnAction(
 			action -> {
+				DelayedTaskRunner.INSTANCE.runPendingTask();
 				ModelExclusiveControl.INSTANCE.lockForModification();
 				try {
 					Workspace currentWS = wss.getCurrentWorkspace();
@@ -195,7 +199,13 @@ public class MenuOperationController {
 					Vec2D localPos = MsgService.INSTANCE.sceneToWorkspace(pos.getX(), pos.getY(), currentWS);
 					double pastePosX = localPos.x + BhParams.LnF.REPLACED_NODE_SHIFT * 2;
 					double pastePosY = localPos.y;
-					wss.paste(currentWS, new Vec2D(pastePosX, pastePosY));
+					BhNodeViewArranger.INSTANCE.beginBatch();
+					try {
+						wss.paste(currentWS, new Vec2D(pastePosX, pastePosY));
+					}
+					finally {
+						BhNodeViewArranger.INSTANCE.endBatch();
+					}
 				}
 				finally {
 					ModelExclusiveControl.INSTANCE.unlockForModification();
@@ -211,6 +221,7 @@ public class MenuOperationController {
 
 		deleteBtn.setOnAction(
 			action -> {
+				DelayedTaskRunner.INSTANCE.runPendingTask();
 				ModelExclusiveControl.INSTANCE.lockForModification();
 				try {
 					Workspace currentWS = wss.getCurrentWorkspace();
@@ -253,6 +264,7 @@ public class MenuOperationController {
 
 		jumpBtn.setOnAction(
 			action -> {
+				DelayedTaskRunner.INSTANCE.runPendingTask();
 				ModelExclusiveControl.INSTANCE.lockForModification();
 				try {
 					findNodeToJumpTo(wss).ifPresent(node -> {
@@ -277,6 +289,7 @@ public class MenuOperationController {
 
 		undoBtn.setOnAction(
 			action -> {
+				DelayedTaskRunner.INSTANCE.runPendingTask();
 				ModelExclusiveControl.INSTANCE.lockForModification();
 				try {
 					MsgTransporter.INSTANCE.sendMessage(BhMsg.UNDO, wss);
@@ -295,6 +308,7 @@ public class MenuOperationController {
 
 		redoBtn.setOnAction(
 			action -> {
+				DelayedTaskRunner.INSTANCE.runPendingTask();
 				ModelExclusiveControl.INSTANCE.lockForModification();
 				try {
 					MsgTransporter.INSTANCE.sendMessage(BhMsg.REDO, wss);
@@ -382,6 +396,7 @@ public class MenuOperationController {
 
 		addWorkspaceBtn.setOnAction(
 			action -> {
+				DelayedTaskRunner.INSTANCE.runPendingTask();
 				ModelExclusiveControl.INSTANCE.lockForModification();
 				try {
 					String defaultWsName = "ワークスペース" + (wss.getWorkspaceList().size()+1);
@@ -415,6 +430,7 @@ public class MenuOperationController {
 
 		executeBtn.setOnAction(
 			action -> {
+				DelayedTaskRunner.INSTANCE.runPendingTask();
 				ModelExclusiveControl.INSTANCE.lockForRead();
 				Optional<Pair<NodeGraphSnapshot, BhNode>> snapshotAndNodeToExecOpt = Optional.empty();
 				try {
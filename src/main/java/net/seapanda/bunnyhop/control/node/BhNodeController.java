@@ -22,6 +22,7 @@ import javafx.event.Event;
 import javafx.scene.input.MouseEvent;
 import net.seapanda.bunnyhop.common.Vec2D;
 import net.seapanda.bunnyhop.common.constant.BhParams;
+import net.seapanda.bunnyhop.control.DelayedTaskRunner;
 import net.seapanda.bunnyhop.message.BhMsg;
 import net.seapanda.bunnyhop.message.MsgData;
 import net.seapanda.bunnyhop.message.MsgProcessor;
@@ -41,6 +42,7 @@ import net.seapanda.bunnyhop.undo.UserOperationCommand;
 import net.seapanda.bunnyhop.view.TrashboxService;
 import net.seapanda.bunnyhop.view.ViewHelper;
 import net.seapanda.bunnyhop.view.node.BhNodeView;
+import net.seapanda.bunnyhop.view.workspace.WorkspaceView;
 
 /**
  * BhNode のコントローラクラスに共通の処理をまとめたクラス
@@ -94,6 +96,7 @@ public class BhNodeController implements MsgProcessor {
 	 */
 	private void  onMousePressed(MouseEvent event) {
 
+		DelayedTaskRunner.INSTANCE.runPendingTask();
 		ModelExclusiveControl.INSTANCE.lockForModification();
 		try {
 			//model.show(0);	//for debug
@@ -144,10 +147,26 @@ public class BhNodeController implements MsgProcessor {
 			// ドラッグ検出されていない場合、強調は行わない. 子ノードがダングリングになっていないのに、重なったノード (入れ替え対象) だけが検出されるのを防ぐ
 			highlightOverlappedNode();
 			TrashboxService.INSTANCE.openCloseTrashbox(event.getSceneX(), event.getSceneY());
+			WorkspaceView wsView = ViewHelper.INSTANCE.getWorkspaceView(view);
+			if (wsView != null)
+				wsView.autoScrollAtEdge(event.getSceneX(), event.getSceneY(), this::onAutoScrolled);
 		}
 		event.consume();
 	}
 
+	/**
+	 * ドラッグ中のワークスペースの自動スクロールに合わせてノードを動かす.
+	 * @param distance ワークスペース上でのスクロール量
+	 */
+	private void onAutoScrolled(Vec2D distance) {
+
+		if (!ddInfo.dragging)
+			return;
+
+		moveNodeOnWorkspace(distance.x, distance.y);
+		highlightOverlappedNode();
+	}
+
 	/**
 	 * マウスドラッグを検出した時の処理.
 	 * 先に {@code onMouseDragged} が呼ばれ, ある程度ドラッグしたときにこれが呼ばれる.
@@ -187,6 +206,7 @@ public class BhNodeController implements MsgProcessor {
 	 */
 	private void onMouseReleased(MouseEvent mouseEvent) {
 
+		DelayedTaskRunner.INSTANCE.runPendingTask();
 		ModelExclusiveControl.INSTANCE.lockForModification();
 		try {
 			if (ddInfo.propagateEvent) {
@@ -195,6 +215,10 @@ public class BhNodeController implements MsgProcessor {
 				return;
 			}
 
+			WorkspaceView wsView = ViewHelper.INSTANCE.getWorkspaceView(view);
+			if (wsView != null)
+				wsView.stopAutoScroll();
+
 			if (ddInfo.currentOverlapped != null)
 				MsgService.INSTANCE.switchPseudoClassActivation(
 					ddInfo.currentOverlapped, BhParams.CSS.PSEUDO_OVERLAPPED, false);
@@ -213,10 +237,9 @@ public class BhNodeController implements MsgProcessor {
 			}
 
 			view.getPositionManager().toFront(false);
-			deleteUnnecessaryNodes(mouseEvent);
-			SyntaxErrorNodeManager.INSTANCE.updateErrorNodeIndicator(ddInfo.userOpeCmd);
-			SyntaxErrorNodeManager.INSTANCE.unmanageNonErrorNodes(ddInfo.userOpeCmd);
-			BunnyHop.INSTANCE.pushUserOpeCmd(ddInfo.userOpeCmd);
+			schedulePostDropTask(
+				ddInfo.userOpeCmd,
+				TrashboxService.INSTANCE.isInTrashboxArea(mouseEvent.getSceneX(), mouseEvent.getSceneY()));
 			ddInfo.reset();
 			view.setMouseTransparent(false);	// 処理が終わったので、元に戻しておく。
 			TrashboxService.INSTANCE.openCloseTrashbox(false);
@@ -294,19 +317,42 @@ public class BhNodeController implements MsgProcessor {
 		view.getAppearanceManager().arrangeAndResize();
 	}
 
+	/**
+	 * ドロップ後のモデルの後処理 (不要ノードの削除, 構文エラー表示の更新, undo スタックへの登録) を予約する. <br>
+	 * 後処理はドロップしたノードの描画を妨げないように後回しにするが, 次のユーザ操作の処理前には必ず完了させる.
+	 * @param userOpeCmd D&D 操作の undo 用コマンドオブジェクト
+	 * @param inTrashboxArea ドロップ位置がゴミ箱の上だった場合 true
+	 */
+	private void schedulePostDropTask(UserOperationCommand userOpeCmd, boolean inTrashboxArea) {
+
+		DelayedTaskRunner.INSTANCE.schedule(() -> {
+			ModelExclusiveControl.INSTANCE.lockForModification();
+			try {
+				deleteUnnecessaryNodes(inTrashboxArea, userOpeCmd);
+				SyntaxErrorNodeManager.INSTANCE.updateErrorNodeIndicator(userOpeCmd);
+				SyntaxErrorNodeManager.INSTANCE.unmanageNonErrorNodes(userOpeCmd);
+				BunnyHop.INSTANCE.pushUserOpeCmd(userOpeCmd);
+			}
+			finally {
+				ModelExclusiveControl.INSTANCE.unlockForModification();
+			}
+		});
+	}
+
 	/**
 	 * 不要になったノードを削除する
+	 * @param inTrashboxArea ドロップ位置がゴミ箱の上だった場合 true
+	 * @param userOpeCmd undo用コマンドオブジェクト
 	 */
-	private void deleteUnnecessaryNodes(MouseEvent mouseEvent) {
+	private void deleteUnnecessaryNodes(boolean inTrashboxArea, UserOperationCommand userOpeCmd) {
 
-		DelayedDeleter.INSTANCE.deleteAll(ddInfo.userOpeCmd);
+		DelayedDeleter.INSTANCE.deleteAll(userOpeCmd);
 
 		//ゴミ箱に重なっていた場合, 削除
-		if (model.getState() == BhNode.State.ROOT_DIRECTLY_UNDER_WS &&
-			TrashboxService.INSTANCE.isInTrashboxArea(mouseEvent.getSceneX(), mouseEvent.getSceneY())) {
+		if (model.getState() == BhNode.State.ROOT_DIRECTLY_UNDER_WS && inTrashboxArea) {
 			model.getEventDispatcher().dispatchOnDeletionRequested(
-				new ArrayList<BhNode>() {{add(model);}}, CauseOfDeletion.TRASH_BOX, ddInfo.userOpeCmd);
-			BhNodeHandler.INSTANCE.deleteNode(model, ddInfo.userOpeCmd);
+				new ArrayList<BhNode>() {{add(model);}}, CauseOfDeletion.TRASH_BOX, userOpeCmd);
+			BhNodeHandler.INSTANCE.deleteNode(model, userOpeCmd);
 		}
 	}
 
@@ -351,14 +397,16 @@ public class BhNodeController implements MsgProcessor {
 		else {
 			if (model.isSelected()) {
 				// 末尾ノードまで一気に選択
+				List<BhNode> nodesToSelect = new ArrayList<>();
 				BhNode outerNode = model.findOuterNode(-1);
 				while(true) {
 					if (outerNode == model)
 						break;
 					if (!outerNode.isSelected() && outerNode.isMovable())
-						model.getWorkspace().addSelectedNode(outerNode, ddInfo.userOpeCmd);
+						nodesToSelect.add(outerNode);
 					outerNode = outerNode.findParentNode();
 				}
+				model.getWorkspace().addSelectedNodes(nodesToSelect, ddInfo.userOpeCmd);
 			}
 			else {
 				model.getWorkspace().setSelectedNode(model, ddInfo.userOpeCmd);
@@ -15,9 +15,21 @@
  */
 package net.seapanda.bunnyhop.control.node;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.application.Platform;
 import javafx.geometry.Point2D;
+import javafx.scene.input.MouseEvent;
 import net.seapanda.bunnyhop.common.Single;
 import net.seapanda.bunnyhop.common.Vec2D;
+import net.seapanda.bunnyhop.control.DelayedTaskRunner;
 import net.seapanda.bunnyhop.message.BhMsg;
 import net.seapanda.bunnyhop.message.MsgData;
 import net.seapanda.bunnyhop.message.MsgProcessor;
@@ -25,7 +37,9 @@ import net.seapanda.bunnyhop.message.MsgService;
 import net.seapanda.bunnyhop.message.MsgTransporter;
 import net.seapanda.bunnyhop.model.node.BhNode;
 import net.seapanda.bunnyhop.model.node.TextNode;
+import net.seapanda.bunnyhop.model.node.imitation.Imitatable;
 import net.seapanda.bunnyhop.model.workspace.Workspace;
+import net.seapanda.bunnyhop.modelprocessor.CallbackInvoker;
 import net.seapanda.bunnyhop.modelprocessor.NodeMVCBuilder;
 import net.seapanda.bunnyhop.modelprocessor.TextImitationPrompter;
 import net.seapanda.bunnyhop.modelservice.BhNodeHandler;
@@ -33,6 +47,7 @@ import net.seapanda.bunnyhop.modelservice.ModelExclusiveControl;
 import net.seapanda.bunnyhop.root.BunnyHop;
 import net.seapanda.bunnyhop.undo.UserOperationCommand;
 import net.seapanda.bunnyhop.view.node.BhNodeView;
+import net.seapanda.bunnyhop.view.node.BhNodeViewPool;
 import net.seapanda.bunnyhop.view.node.ComboBoxNodeView;
 import net.seapanda.bunnyhop.view.node.LabelNodeView;
 import net.seapanda.bunnyhop.view.node.TextInputNodeView;
@@ -48,6 +63,18 @@ public class BhNodeControllerInSelectionView implements MsgProcessor {
 	private final BhNodeView view;	//!< テンプレートリストのビュー
 	private final BhNodeView rootView;	//!< 上のview ルートとなるview
 	private final Single<BhNodeView> currentView = new Single<>();	//!< 現在、テンプレートのBhNodeView 上で発生したマウスイベントを送っているワークスペース上の view
+	/** テンプレートのルートノードと, そのテンプレートから事前に作成しておいたノードのマップ. FX アプリケーションスレッドからのみアクセスする. */
+	private static final Map<BhNode, SpareNode> templateRootToSpare = new WeakHashMap<>();
+	/** 事前のコピーを作成中のテンプレートのルートノード. FX アプリケーションスレッドからのみアクセスする. */
+	private static final Set<BhNode> templateRootsBeingCopied = Collections.newSetFromMap(new WeakHashMap<>());
+	/** テンプレートのモデルのコピーを作成する Executor */
+	private static final ExecutorService spareCopyExec = Executors.newSingleThreadExecutor(
+		runnable -> {
+			var thread = new Thread(runnable);
+			thread.setDaemon(true);
+			return thread;
+		});
+
 	/**
 	 * コンストラクタ
 	 * @param model 管理するモデル
@@ -84,6 +111,9 @@ public class BhNodeControllerInSelectionView implements MsgProcessor {
 		setOnMouseDragged();
 		setOnDeagDetected();
 		setOnMouseReleased();
+		// カーソルがテンプレートに乗った時点で, ドラッグされるノードを作っておく
+		if (view == rootView)
+			view.addEventHandler(MouseEvent.MOUSE_ENTERED, mouseEvent -> scheduleSpareCreation());
 	}
 
 	/**
@@ -93,15 +123,27 @@ public class BhNodeControllerInSelectionView implements MsgProcessor {
 
 		view.getEventManager().setOnMousePressed(
 			mouseEvent -> {
+				DelayedTaskRunner.INSTANCE.runPendingTask();
 				ModelExclusiveControl.INSTANCE.lockForModification();
 				try {
 					Workspace currentWS = BunnyHop.INSTANCE.getCurrentWorkspace();
 					if (currentWS == null)
 						return;
 
-					UserOperationCommand userOpeCmd = new UserOperationCommand();
-					BhNode newNode = model.findRootNode().copy(userOpeCmd, (bhNode) -> true);
-					BhNodeView nodeView = NodeMVCBuilder.build(newNode); //MVC構築
+					UserOperationCommand userOpeCmd;
+					BhNode newNode;
+					BhNodeView nodeView;
+					SpareNode spare = takeSpare(model.findRootNode());
+					if (spare != null) {
+						userOpeCmd = spare.userOpeCmd;
+						newNode = spare.node;
+						nodeView = spare.view;
+					}
+					else {
+						userOpeCmd = new UserOperationCommand();
+						newNode = model.findRootNode().copy(userOpeCmd, (bhNode) -> true);
+						nodeView = NodeMVCBuilder.build(newNode); //MVC構築
+					}
 					TextImitationPrompter.prompt(newNode);
 					currentView.content = nodeView;
 					Vec2D posOnRootView = calcRelativePosFromRoot();	//クリックされたテンプレートノードのルートノード上でのクリック位置
@@ -178,6 +220,124 @@ public class BhNodeControllerInSelectionView implements MsgProcessor {
 			});
 	}
 
+	/**
+	 * このノードを含むテンプレートから, 次にドラッグされるノードを事前に作成する処理を予約する. <br>
+	 * モデルのコピーはバックグラウンドで行い, ビューの作成だけを FX アプリケーションスレッドで行う.
+	 * テンプレートの変更の有無は, 事前に作成したノードを取り出すときに調べる.
+	 */
+	private void scheduleSpareCreation() {
+
+		BhNode templateRoot = model.findRootNode();
+		if (templateRootToSpare.containsKey(templateRoot) || !templateRootsBeingCopied.add(templateRoot))
+			return;
+
+		spareCopyExec.submit(() -> {
+			SpareModel spareModel = null;
+			ModelExclusiveControl.INSTANCE.lockForRead();
+			try {
+				spareModel = copyTemplate(templateRoot);
+			}
+			finally {
+				ModelExclusiveControl.INSTANCE.unlockForRead();
+				SpareModel copied = spareModel;
+				Platform.runLater(() -> buildSpare(templateRoot, copied));
+			}
+		});
+	}
+
+	/**
+	 * テンプレートのモデルをコピーする. <br>
+	 * イミテーションノードを含むテンプレートは, コピー時にオリジナルノードとの関係が作られるので事前にコピーしない.
+	 * @param templateRoot コピーするテンプレートのルートノード
+	 * @return テンプレートのコピー. コピーしなかった場合 null.
+	 */
+	private static SpareModel copyTemplate(BhNode templateRoot) {
+
+		if (containsImitation(templateRoot))
+			return null;
+
+		var userOpeCmd = new UserOperationCommand();
+		BhNode newNode = templateRoot.copy(userOpeCmd, (bhNode) -> true);
+		return new SpareModel(newNode, userOpeCmd, collectTexts(templateRoot));
+	}
+
+	/**
+	 * 事前にコピーしたテンプレートのビューを作成して保持しておく
+	 * @param templateRoot コピー元のテンプレートのルートノード
+	 * @param spareModel テンプレートのコピー. null の場合は何もしない.
+	 */
+	private static void buildSpare(BhNode templateRoot, SpareModel spareModel) {
+
+		templateRootsBeingCopied.remove(templateRoot);
+		if (spareModel == null)
+			return;
+
+		ModelExclusiveControl.INSTANCE.lockForModification();
+		try {
+			BhNodeView nodeView = NodeMVCBuilder.build(spareModel.node); //MVC構築
+			SpareNode oldSpare = templateRootToSpare.put(templateRoot, new SpareNode(spareModel, nodeView));
+			if (oldSpare != null)
+				BhNodeViewPool.INSTANCE.release(oldSpare.view);
+		}
+		finally {
+			ModelExclusiveControl.INSTANCE.unlockForModification();
+		}
+	}
+
+	/**
+	 * 事前に作成しておいたテンプレートのコピーを取り出す.
+	 * @param templateRoot コピー元のテンプレートのルートノード
+	 * @return 事前に作成しておいたテンプレートのコピー. 無い場合やテンプレートが変更されていた場合は null.
+	 */
+	private static SpareNode takeSpare(BhNode templateRoot) {
+
+		SpareNode spare = templateRootToSpare.remove(templateRoot);
+		if (spare == null)
+			return null;
+
+		// 古いスペアのビューはワークスペースに一度も追加されていないので再利用できる
+		if (!spare.isCopyOf(templateRoot)) {
+			BhNodeViewPool.INSTANCE.release(spare.view);
+			return null;
+		}
+
+		return spare;
+	}
+
+	/**
+	 * 引数で指定したノード以下にイミテーションノードがあるか調べる.
+	 * @param node このノード以下にイミテーションノードがあるか調べる
+	 * @return {@code node} 以下にイミテーションノードがある場合 true
+	 */
+	private static boolean containsImitation(BhNode node) {
+
+		var found = new Single<Boolean>(false);
+		CallbackInvoker.CallbackRegistry registry = CallbackInvoker.newCallbackRegistry().setForAllNodes(
+			bhNode -> {
+				if (bhNode instanceof Imitatable && ((Imitatable)bhNode).isImitationNode())
+					found.content = true;
+			});
+		CallbackInvoker.invoke(registry, node);
+		return found.content;
+	}
+
+	/**
+	 * 引数で指定したノード以下のテキストノードの文字列を集める.
+	 * @param node このノード以下のテキストノードの文字列を集める
+	 * @return テキストノードの文字列のリスト
+	 */
+	private static List<String> collectTexts(BhNode node) {
+
+		var texts = new ArrayList<String>();
+		CallbackInvoker.CallbackRegistry registry = CallbackInvoker.newCallbackRegistry().setForAllNodes(
+			bhNode -> {
+				if (bhNode instanceof TextNode)
+					texts.add(((TextNode)bhNode).getText());
+			});
+		CallbackInvoker.invoke(registry, node);
+		return texts;
+	}
+
 	/**
 	 * view の rootView からの相対位置を求める
 	 * */
@@ -249,6 +409,51 @@ public class BhNodeControllerInSelectionView implements MsgProcessor {
 		return null;
 	}
 
+	/**
+	 * テンプレートから事前に作成しておいたノード
+	 */
+	private static class SpareModel {
+
+		final BhNode node;	//!< テンプレートのコピー
+		final UserOperationCommand userOpeCmd;	//!< {@code node} 作成時の undo 用コマンドオブジェクト
+		/** {@code node} を作成したときのテンプレートのテキストノードの文字列. テンプレートの変更検出に使う. */
+		final List<String> templateTexts;
+
+		SpareModel(BhNode node, UserOperationCommand userOpeCmd, List<String> templateTexts) {
+			this.node = node;
+			this.userOpeCmd = userOpeCmd;
+			this.templateTexts = templateTexts;
+		}
+	}
+
+	/**
+	 * テンプレートから事前に作成しておいたノードとそのビュー
+	 */
+	private static class SpareNode {
+
+		final BhNode node;	//!< テンプレートのコピー
+		final BhNodeView view;	//!< {@code node} のビュー
+		final UserOperationCommand userOpeCmd;	//!< {@code node} 作成時の undo 用コマンドオブジェクト
+		/** {@code node} を作成したときのテンプレートのテキストノードの文字列. テンプレートの変更検出に使う. */
+		final List<String> templateTexts;
+
+		SpareNode(SpareModel spareModel, BhNodeView view) {
+			this.node = spareModel.node;
+			this.view = view;
+			this.userOpeCmd = spareModel.userOpeCmd;
+			this.templateTexts = spareModel.templateTexts;
+		}
+
+		/**
+		 * このオブジェクトが持つノードが, 現在のテンプレートと同じ内容かどうか調べる.
+		 * @param templateRoot テンプレートのルートノード
+		 * @return 現在のテンプレートと同じ内容の場合 true
+		 */
+		boolean isCopyOf(BhNode templateRoot) {
+			return templateTexts.equals(collectTexts(templateRoot));
+		}
+	}
+
 	private void setText(String modelText, String viewText) {
 
 		if (model instanceof TextNode) {
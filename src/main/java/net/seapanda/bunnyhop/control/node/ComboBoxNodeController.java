@@ -18,6 +18,7 @@ package net.seapanda.bunnyhop.control.node;
 import java.util.Objects;
 import java.util.Optional;
 
+import net.seapanda.bunnyhop.control.DelayedTaskRunner;
 import net.seapanda.bunnyhop.message.BhMsg;
 import net.seapanda.bunnyhop.message.MsgData;
 import net.seapanda.bunnyhop.model.node.TextNode;
@@ -66,6 +67,7 @@ public class ComboBoxNodeController extends BhNodeController {
 		if (Objects.equals(newItem.getModelText(), model.getText()))
 			return;
 
+		DelayedTaskRunner.INSTANCE.runPendingTask();
 		ModelExclusiveControl.INSTANCE.lockForModification();
 		try {
 
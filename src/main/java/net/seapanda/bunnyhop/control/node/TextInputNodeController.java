@@ -15,6 +15,7 @@
  */
 package net.seapanda.bunnyhop.control.node;
 
+import net.seapanda.bunnyhop.control.DelayedTaskRunner;
 import net.seapanda.bunnyhop.message.BhMsg;
 import net.seapanda.bunnyhop.message.MsgData;
 import net.seapanda.bunnyhop.model.node.TextNode;
@@ -61,7 +62,7 @@ public class TextInputNodeController extends BhNodeController {
 
 		view.setTextFormatHandler(model::formatText);
 		view.setTextChangeListener(model::isTextAcceptable);
-		view.addFocusListener((observable, oldValue, newValue) -> onFocusChanged(model, view, !newValue));
+		view.setFocusListener((observable, oldValue, newValue) -> onFocusChanged(model, view, !newValue));
 
 		String initText = model.getText();
 		view.setText(initText + " ");	//初期文字列が空文字だったときのため
@@ -77,6 +78,7 @@ public class TextInputNodeController extends BhNodeController {
 		if (!isInputFinished)
 			return;
 
+		DelayedTaskRunner.INSTANCE.runPendingTask();
 		ModelExclusiveControl.INSTANCE.lockForModification();
 		try {
 			String currentGUIText = view.getText();
@@ -15,12 +15,18 @@
  */
 package net.seapanda.bunnyhop.control.workspace;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import net.seapanda.bunnyhop.common.Vec2D;
 import net.seapanda.bunnyhop.common.constant.BhParams;
 import net.seapanda.bunnyhop.message.MsgService;
 import net.seapanda.bunnyhop.model.node.BhNode;
 import net.seapanda.bunnyhop.model.workspace.Workspace;
+import net.seapanda.bunnyhop.root.BunnyHop;
+import net.seapanda.bunnyhop.undo.UserOperationCommand;
 import net.seapanda.bunnyhop.view.ViewHelper;
+import net.seapanda.bunnyhop.view.node.BhNodeView;
 import net.seapanda.bunnyhop.view.workspace.MultiNodeShifterView;
 
 /**
@@ -31,6 +37,8 @@ public class MultiNodeShifterController {
 
 	private final MultiNodeShifterView view; //!< 管理するビュー
 	private final Workspace ws;	//!< view が存在するワークスぺース
+	/** マルチノードシフタで動かす前のノードの位置. (undo 用) */
+	private final Map<BhNode, Vec2D> nodeToPosBeforeMove = new HashMap<>();
 
 	/**
 	 * コンストラクタ
@@ -58,6 +66,8 @@ public class MultiNodeShifterController {
 			javafx.geometry.Point2D pos = view.sceneToLocal(mouseEvent.getSceneX(), mouseEvent.getSceneY());
 			mousePressedPos.x = pos.getX();
 			mousePressedPos.y = pos.getY();
+			nodeToPosBeforeMove.clear();
+			view.getLinkedNodeList().forEach(node -> nodeToPosBeforeMove.put(node, MsgService.INSTANCE.getPosOnWS(node)));
 			view.toFront();
 			mouseEvent.consume();
 		});
@@ -80,7 +90,7 @@ public class MultiNodeShifterController {
 			}
 			else {
 				Vec2D distance = view.move(new Vec2D(diffX, diffY), wsSize, false);
-				view.getLinkedNodeList().forEach(node -> MsgService.INSTANCE.moveNodeOnWS(node, distance));
+				moveLinkedNodes(distance);
 			}
 			mouseEvent.consume();
 		});
@@ -94,10 +104,57 @@ public class MultiNodeShifterController {
 
 		view.setOnMouseReleasedHandler(mouseEvent -> {
 			view.switchPseudoClassActivation(false, BhParams.CSS.PSEUDO_SELECTED);
+			pushMoveCmd();
 			mouseEvent.consume();
 		});
 	}
 
+	/**
+	 * マルチノードシフタとリンクしている全ノードをまとめて動かす. <br>
+	 * ノードごとにマルチノードシフタを更新せず, 全ノードを動かした後でリンクの位置を一度だけ更新する.
+	 * @param distance 移動量
+	 * */
+	private void moveLinkedNodes(Vec2D distance) {
+
+		for (BhNode node : view.getLinkedNodeList()) {
+			BhNodeView nodeView = MsgService.INSTANCE.getBhNodeView(node);
+			nodeView.getPositionManager().move(distance.x, distance.y);
+		}
+		view.updateAllLinkPositions();
+	}
+
+	/**
+	 * マルチノードシフタによるノードの移動を 1 つの undo 用コマンドにまとめて undo スタックに積む
+	 * */
+	private void pushMoveCmd() {
+
+		var userOpeCmd = new UserOperationCommand();
+		nodeToPosBeforeMove.forEach((node, posBeforeMove) -> {
+			Vec2D curPos = MsgService.INSTANCE.getPosOnWS(node);
+			if (curPos.x != posBeforeMove.x || curPos.y != posBeforeMove.y)
+				userOpeCmd.pushCmdOfSetPosOnWorkspace(posBeforeMove.x, posBeforeMove.y, node);
+		});
+		nodeToPosBeforeMove.clear();
+		if (userOpeCmd.getNumSubOpe() > 0)
+			BunnyHop.INSTANCE.pushUserOpeCmd(userOpeCmd);
+	}
+
+	/**
+	 * マルチノードシフタの更新のバッチ処理を開始する. <br>
+	 * {@link #endUpdateBatch} を呼ぶまでシフタと全リンクの位置の更新を保留する.
+	 */
+	void beginUpdateBatch() {
+		view.beginBatch();
+	}
+
+	/**
+	 * マルチノードシフタの更新のバッチ処理を終了する. <br>
+	 * 最も外側のバッチ処理が終了した場合, 保留していたシフタと全リンクの位置の更新を行う.
+	 */
+	void endUpdateBatch() {
+		view.endBatch();
+	}
+
 	/**
 	 * マルチノードシフタを更新する
 	 * @param node マルチノードシフタの更新の原因を作ったノード
@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 
 import net.seapanda.bunnyhop.common.Vec2D;
 import net.seapanda.bunnyhop.common.tools.MsgPrinter;
+import net.seapanda.bunnyhop.control.DelayedTaskRunner;
 import net.seapanda.bunnyhop.message.BhMsg;
 import net.seapanda.bunnyhop.message.MsgData;
 import net.seapanda.bunnyhop.message.MsgProcessor;
@@ -92,6 +93,7 @@ public class WorkspaceController implements MsgProcessor {
 		// WSをクリックしたときにテキストフィールドのカーソルが消えなくなるので, マウスイベントをconsumeしない.
 		view.setOnMousePressed(
 			mouseEvent -> {
+				DelayedTaskRunner.INSTANCE.runPendingTask();
 				if (!mouseEvent.isShiftDown()) {
 					UserOperationCommand userOpeCmd = new UserOperationCommand();
 					BhNodeSelectionService.INSTANCE.hideAll();
@@ -125,6 +127,7 @@ public class WorkspaceController implements MsgProcessor {
 
 		view.setOnMouseReleased(
 			mouseEvent -> {
+				DelayedTaskRunner.INSTANCE.runPendingTask();
 				view.hideSelectionRectangle();
 				var selectionRange = new QuadTreeRectangle(
 					Math.min(mousePressedPos.x, mouseEvent.getX()), Math.min(mousePressedPos.y, mouseEvent.getY()),
@@ -174,11 +177,12 @@ public class WorkspaceController implements MsgProcessor {
 	private void selectNodes(List<BhNodeView> candidates, UserOperationCommand userOpeCmd) {
 
 		// 親ノードが選択候補でかつ, 親ノードのボディの領域に包含されているノードは選択対象としない.
-		LinkedList<BhNodeView> nodesToSelect = new LinkedList<>(candidates);
-		while (nodesToSelect.size() != 0) {
-			BhNodeView larger = nodesToSelect.pop();
-			model.addSelectedNode(larger.getModel(), userOpeCmd);	// ノード選択
-			var iter = nodesToSelect.iterator();
+		LinkedList<BhNodeView> candidateList = new LinkedList<>(candidates);
+		List<BhNode> nodesToSelect = new ArrayList<>();
+		while (candidateList.size() != 0) {
+			BhNodeView larger = candidateList.pop();
+			nodesToSelect.add(larger.getModel());
+			var iter = candidateList.iterator();
 			while (iter.hasNext()) {
 				BhNodeView smaller = iter.next();
 				// 子孫 - 先祖関係にあってかつ領域が包含関係にある -> 矩形選択の対象としない
@@ -188,6 +192,7 @@ public class WorkspaceController implements MsgProcessor {
 				}
 			}
 		}
+		model.addSelectedNodes(nodesToSelect, userOpeCmd);	// ノード選択
 	}
 
 	/**
@@ -242,6 +247,14 @@ public class WorkspaceController implements MsgProcessor {
 				nodeShifterController.updateMultiNodeShifter(data.node);
 				break;
 
+			case BEGIN_MULTI_NODE_SHIFTER_UPDATE:
+				nodeShifterController.beginUpdateBatch();
+				break;
+
+			case END_MULTI_NODE_SHIFTER_UPDATE:
+				nodeShifterController.endUpdateBatch();
+				break;
+
 			case LOOK_AT_NODE_VIEW:
 				view.lookAt(data.nodeView);
 				break;
@@ -15,6 +15,8 @@
  */
 package net.seapanda.bunnyhop.control.workspace;
 
+import java.util.Collection;
+
 import javafx.fxml.FXML;
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
@@ -27,14 +29,21 @@ import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import net.seapanda.bunnyhop.common.constant.BhParams;
 import net.seapanda.bunnyhop.common.tools.MsgPrinter;
+import net.seapanda.bunnyhop.control.DelayedTaskRunner;
 import net.seapanda.bunnyhop.message.BhMsg;
 import net.seapanda.bunnyhop.message.MsgData;
 import net.seapanda.bunnyhop.message.MsgProcessor;
+import net.seapanda.bunnyhop.message.MsgService;
+import net.seapanda.bunnyhop.message.MsgTransporter;
+import net.seapanda.bunnyhop.model.node.BhNode;
 import net.seapanda.bunnyhop.model.workspace.Workspace;
 import net.seapanda.bunnyhop.model.workspace.WorkspaceSet;
+import net.seapanda.bunnyhop.modelservice.DelayedDeleter;
 import net.seapanda.bunnyhop.root.BunnyHop;
 import net.seapanda.bunnyhop.undo.UserOpeCmdManager;
 import net.seapanda.bunnyhop.undo.UserOperationCommand;
+import net.seapanda.bunnyhop.view.node.BhNodeViewArranger;
+import net.seapanda.bunnyhop.view.node.BhNodeViewPool;
 import net.seapanda.bunnyhop.view.nodeselection.BhNodeSelectionView;
 import net.seapanda.bunnyhop.view.workspace.WorkspaceView;
 
@@ -52,6 +61,7 @@ public class WorkspaceSetController implements MsgProcessor {
 	@FXML private ImageView openedTrashboxIV;
 	@FXML private ImageView closedTrashboxIV;
 	private final UserOpeCmdManager userOpeCmdManager = new UserOpeCmdManager();
+	private boolean isCanvasRenderingEnabled = false;	//!< 操作対象でないノードをキャンバスにまとめて描画する場合 true
 
 	/**
 	 * モデルとイベントハンドラをセットする
@@ -207,17 +217,43 @@ public class WorkspaceSetController implements MsgProcessor {
 				break;
 
 			case UNDO:
-				userOpeCmdManager.undo();
+				DelayedTaskRunner.INSTANCE.runPendingTask();
+				BhNodeViewArranger.INSTANCE.beginBatch();
+				try {
+					userOpeCmdManager.undo();
+				}
+				finally {
+					BhNodeViewArranger.INSTANCE.endBatch();
+				}
 				BunnyHop.INSTANCE.shouldSave(true);
 				break;
 
 			case REDO:
-				userOpeCmdManager.redo();
+				DelayedTaskRunner.INSTANCE.runPendingTask();
+				BhNodeViewArranger.INSTANCE.beginBatch();
+				try {
+					userOpeCmdManager.redo();
+				}
+				finally {
+					BhNodeViewArranger.INSTANCE.endBatch();
+				}
 				BunnyHop.INSTANCE.shouldSave(true);
 				break;
 
 			case DELETE_USER_OPE_CMD:
+				DelayedTaskRunner.INSTANCE.runPendingTask();
 				userOpeCmdManager.delete();
+				recycleNodeViews();
+				break;
+
+			case GET_USER_OPE_CMD_STATISTICS:
+				return new MsgData(userOpeCmdManager.genStatistics());
+
+			case GET_USER_OPE_CMDS:
+				return new MsgData(userOpeCmdManager.getCommands());
+
+			case SET_CANVAS_RENDERING_ENABLED:
+				setCanvasRenderingEnabled(data.bool);
 				break;
 
 			case PUSH_USER_OPE_CMD:
@@ -246,6 +282,7 @@ public class WorkspaceSetController implements MsgProcessor {
 		Workspace workspace, WorkspaceView workspaceView, UserOperationCommand userOpeCmd) {
 
 		model.addWorkspace(workspace);
+		workspaceView.setCanvasRenderingEnabled(isCanvasRenderingEnabled);
 		workspaceSetTab.getTabs().add(workspaceView);
 		workspaceSetTab.getSelectionModel().select(workspaceView);
 		// ここで REORDER にしないと, undo でタブを戻した時, タブドラッグ時に例外が発生する
@@ -269,6 +306,18 @@ public class WorkspaceSetController implements MsgProcessor {
 		userOpeCmd.pushCmdOfDeleteWorkspace(workspace, workspaceView, model);
 	}
 
+	/**
+	 * 全てのワークスペースビューについて, 操作対象でないノードをキャンバスにまとめて描画するかどうかを設定する. <br>
+	 * 後から追加されるワークスペースビューにも同じ設定を適用する.
+	 * @param enabled キャンバスに描画する場合 true
+	 */
+	private void setCanvasRenderingEnabled(boolean enabled) {
+
+		isCanvasRenderingEnabled = enabled;
+		for (Tab tab : workspaceSetTab.getTabs())
+			((WorkspaceView)tab).setCanvasRenderingEnabled(enabled);
+	}
+
 	/**
 	 * 現在選択中の Workspace を返す
 	 * @return 現在選択中のWorkspace
@@ -297,9 +346,31 @@ public class WorkspaceSetController implements MsgProcessor {
 
 		if (userOpeCmd.getNumSubOpe() > 0) {
 			userOpeCmdManager.pushUndoCommand(userOpeCmd);
+			recycleNodeViews();
 			BunnyHop.INSTANCE.shouldSave(true);
 		}
 	}
+
+	/**
+	 * undo/redo の対象から外れ, 以後どこからも使われないノードツリーのビューを再利用のためにプールに入れる
+	 */
+	private void recycleNodeViews() {
+
+		Collection<BhNode> roots = userOpeCmdManager.pollUnreferencedNodes();
+		for (BhNode root : roots) {
+			if (root.isInWorkspace()
+				|| model.containsInPasteList(root)
+				|| DelayedDeleter.INSTANCE.containsInCandidateList(root))
+				continue;
+
+			// ビューを持たないノードとプールに入れ済みのノードは, メッセージに応答しない
+			MsgData viewData = MsgTransporter.INSTANCE.sendMessage(BhMsg.GET_VIEW, root);
+			if (viewData == null || viewData.nodeView == null || MsgService.INSTANCE.isTemplateNode(root))
+				continue;
+
+			BhNodeViewPool.INSTANCE.release(viewData.nodeView);
+		}
+	}
 }
 
 
@@ -45,6 +45,9 @@ public enum BhMsg {
 	SET_USER_OPE_CMD, //!< ユーザー操作を表すオブジェクトを登録する
 	PUSH_USER_OPE_CMD, //!< ユーザー操作を表すオブジェクトをundoスタックに追加する
 	DELETE_USER_OPE_CMD, //!< undo, redo の対象になっているコマンドを削除する
+	GET_USER_OPE_CMD_STATISTICS, //!< undo, redo の対象になっているコマンドの数を取得する
+	GET_USER_OPE_CMDS, //!< undo, redo の対象になっているコマンドを取得する
+	SET_CANVAS_RENDERING_ENABLED, //!< 操作対象でないノードをキャンバスにまとめて描画するかどうかを設定する
 	REMOVE_FROM_GUI_TREE, //!< GUIツリー上からViewを消す
 	IMITATE_TEXT, //!< イミテーションノードのテキストをオリジナルと一致させる
 	GET_VIEW_TEXT, //!< ビューのテキストを取得する
@@ -54,6 +57,8 @@ public enum BhMsg {
 	SET_VISIBLE, //!< ノードの可視性をセットする
 	SET_SYNTAX_ERRPR_INDICATOR, //!< ノードの構文エラー警告表示を変更する
 	UPDATE_MULTI_NODE_SHIFTER, //!< マルチノードシフタ(複数ノード移動用マルチノードシフタ)とリンクを更新する
+	BEGIN_MULTI_NODE_SHIFTER_UPDATE, //!< マルチノードシフタとリンクの位置の更新を保留するバッチ処理を開始する
+	END_MULTI_NODE_SHIFTER_UPDATE, //!< マルチノードシフタとリンクの位置の更新を保留するバッチ処理を終了する
 	GET_NODE_BODY_RANGE, //!< BhNodeのボディのワークスペース上での範囲を取得する
 	REMOVE_NODE_TO_PASTE, //!< 貼り付け予定のノードを貼り付け候補から取り除く
 	SELECT_NODE_VIEW, //!< ノードビューの選択表示の有効/無効状態を切り替える
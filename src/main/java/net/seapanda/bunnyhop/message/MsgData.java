@@ -15,6 +15,8 @@
  */
 package net.seapanda.bunnyhop.message;
 
+import java.util.List;
+
 import net.seapanda.bunnyhop.common.Pair;
 import net.seapanda.bunnyhop.common.Vec2D;
 import net.seapanda.bunnyhop.model.node.BhNode;
@@ -41,6 +43,7 @@ public class MsgData {
 	public final UserOperationCommand userOpeCmd;
 	public final String text;
 	public final BhNodeSelectionView nodeSelectionView;
+	public final List<UserOperationCommand> userOpeCmdList;
 
 	public MsgData() {
 		this.node = null;
@@ -54,6 +57,7 @@ public class MsgData {
 		this.userOpeCmd = null;
 		this.text = null;
 		this.nodeSelectionView = null;
+		this.userOpeCmdList = null;
 	}
 
 	public MsgData(BhNodeView view) {
@@ -68,6 +72,7 @@ public class MsgData {
 		this.userOpeCmd = null;
 		this.text = null;
 		this.nodeSelectionView = null;
+		this.userOpeCmdList = null;
 	}
 
 	public MsgData(Vec2D vec2d) {
@@ -82,6 +87,7 @@ public class MsgData {
 		this.userOpeCmd = null;
 		this.text = null;
 		this.nodeSelectionView = null;
+		this.userOpeCmdList = null;
 	}
 
 	public MsgData(Workspace workspace, WorkspaceView workspaceView, UserOperationCommand userOpeCmd) {
@@ -96,6 +102,7 @@ public class MsgData {
 		this.userOpeCmd = userOpeCmd;
 		this.text = null;
 		this.nodeSelectionView = null;
+		this.userOpeCmdList = null;
 	}
 
 	public MsgData(BhNode node, BhNodeView view) {
@@ -110,6 +117,7 @@ public class MsgData {
 		this.userOpeCmd = null;
 		this.text = null;
 		this.nodeSelectionView = null;
+		this.userOpeCmdList = null;
 	}
 
 	public MsgData(BhNode node) {
@@ -124,6 +132,7 @@ public class MsgData {
 		this.userOpeCmd = null;
 		this.text = null;
 		this.nodeSelectionView = null;
+		this.userOpeCmdList = null;
 	}
 
 
@@ -139,6 +148,7 @@ public class MsgData {
 		this.userOpeCmd = null;
 		this.text = null;
 		this.nodeSelectionView = null;
+		this.userOpeCmdList = null;
 	}
 
 	public MsgData(UserOperationCommand userOpeCmd) {
@@ -153,6 +163,22 @@ public class MsgData {
 		this.userOpeCmd = userOpeCmd;
 		this.text = null;
 		this.nodeSelectionView = null;
+		this.userOpeCmdList = null;
+	}
+
+	public MsgData(List<UserOperationCommand> userOpeCmdList) {
+		this.node = null;
+		this.nodeView = null;
+		this.vec2d = null;
+		this.strPair = null;
+		this.vec2dPair = null;
+		this.workspace = null;
+		this.workspaceView = null;
+		this.bool = false;
+		this.userOpeCmd = null;
+		this.text = null;
+		this.nodeSelectionView = null;
+		this.userOpeCmdList = userOpeCmdList;
 	}
 
 	public MsgData(String text) {
@@ -167,6 +193,7 @@ public class MsgData {
 		this.userOpeCmd = null;
 		this.text = text;
 		this.nodeSelectionView = null;
+		this.userOpeCmdList = null;
 	}
 
 	public MsgData(Workspace workspace) {
@@ -181,6 +208,7 @@ public class MsgData {
 		this.userOpeCmd = null;
 		this.text = null;
 		this.nodeSelectionView = null;
+		this.userOpeCmdList = null;
 	}
 
 	public MsgData(boolean bool, String text) {
@@ -195,6 +223,7 @@ public class MsgData {
 		this.userOpeCmd = null;
 		this.text = text;
 		this.nodeSelectionView = null;
+		this.userOpeCmdList = null;
 	}
 
 	public MsgData(BhNodeSelectionView nodeSelectionView) {
@@ -209,6 +238,7 @@ public class MsgData {
 		this.userOpeCmd = null;
 		this.text = null;
 		this.nodeSelectionView = nodeSelectionView;
+		this.userOpeCmdList = null;
 	}
 
 	public MsgData(String textA, String textB) {
@@ -223,6 +253,7 @@ public class MsgData {
 		this.userOpeCmd = null;
 		this.text = null;
 		this.nodeSelectionView = null;
+		this.userOpeCmdList = null;
 	}
 
 	public MsgData(boolean bool, UserOperationCommand userOpeCmd) {
@@ -237,6 +268,7 @@ public class MsgData {
 		this.userOpeCmd = userOpeCmd;
 		this.text = null;
 		this.nodeSelectionView = null;
+		this.userOpeCmdList = null;
 	}
 
 	public MsgData(Vec2D vecA, Vec2D vecB) {
@@ -251,6 +283,7 @@ public class MsgData {
 		this.userOpeCmd = null;
 		this.text = null;
 		this.nodeSelectionView = null;
+		this.userOpeCmdList = null;
 	}
 
 	public MsgData(BhNode node, UserOperationCommand userOpeCmd) {
@@ -265,6 +298,7 @@ public class MsgData {
 		this.userOpeCmd = userOpeCmd;
 		this.text = null;
 		this.nodeSelectionView = null;
+		this.userOpeCmdList = null;
 	}
 }
 
@@ -15,6 +15,7 @@
  */
 package net.seapanda.bunnyhop.message;
 import java.util.Collection;
+import java.util.List;
 
 import net.seapanda.bunnyhop.common.Pair;
 import net.seapanda.bunnyhop.common.Vec2D;
@@ -84,6 +85,35 @@ public class MsgService {
 		MsgTransporter.INSTANCE.sendMessage(BhMsg.DELETE_USER_OPE_CMD, wss);
 	}
 
+	/**
+	 * ワークスペースセットの全てのワークスペースビューについて, 操作対象でないノードをキャンバスにまとめて描画するかどうかを設定する
+	 * @param wss ワークスペースセット
+	 * @param enabled キャンバスに描画する場合 true
+	 */
+	public void setCanvasRenderingEnabled(WorkspaceSet wss, boolean enabled) {
+		MsgTransporter.INSTANCE.sendMessage(BhMsg.SET_CANVAS_RENDERING_ENABLED, new MsgData(enabled), wss);
+	}
+
+	/**
+	 * undo, redo の対象になっているコマンドの数を説明する文字列を取得する
+	 * @param wss undo, redo の対象になっているコマンドを持つワークスペースセット
+	 * @return undo, redo の対象になっているコマンドの数を説明する文字列
+	 */
+	public String getUndoRedoCommandStatistics(WorkspaceSet wss) {
+		MsgData msgData = MsgTransporter.INSTANCE.sendMessage(BhMsg.GET_USER_OPE_CMD_STATISTICS, wss);
+		return msgData.text;
+	}
+
+	/**
+	 * undo, redo の対象になっているコマンドを取得する
+	 * @param wss undo, redo の対象になっているコマンドを持つワークスペースセット
+	 * @return undo, redo の対象になっているコマンドのリスト
+	 */
+	public List<UserOperationCommand> getUndoRedoCommands(WorkspaceSet wss) {
+		MsgData msgData = MsgTransporter.INSTANCE.sendMessage(BhMsg.GET_USER_OPE_CMDS, wss);
+		return msgData.userOpeCmdList;
+	}
+
 	/**
 	 * 複数ノード移動用マルチノードシフタとリンクを更新する
 	 * @param node マルチノードシフタ更新の原因を作ったノード
@@ -93,6 +123,24 @@ public class MsgService {
 		MsgTransporter.INSTANCE.sendMessage(BhMsg.UPDATE_MULTI_NODE_SHIFTER, new MsgData(node), ws);
 	}
 
+	/**
+	 * マルチノードシフタとリンクの位置の更新を保留するバッチ処理を開始する. <br>
+	 * 必ず try-finally で {@link #endMultiNodeShifterUpdate} と対にして呼ぶこと.
+	 * @param ws 更新を保留するマルチノードシフタを含むワークスペース
+	 */
+	public void beginMultiNodeShifterUpdate(Workspace ws) {
+		MsgTransporter.INSTANCE.sendMessage(BhMsg.BEGIN_MULTI_NODE_SHIFTER_UPDATE, ws);
+	}
+
+	/**
+	 * マルチノードシフタとリンクの位置の更新を保留するバッチ処理を終了する. <br>
+	 * 最も外側のバッチ処理が終了した場合, 保留していた位置の更新を1度だけ行う.
+	 * @param ws 更新を保留したマルチノードシフタを含むワークスペース
+	 */
+	public void endMultiNodeShifterUpdate(Workspace ws) {
+		MsgTransporter.INSTANCE.sendMessage(BhMsg.END_MULTI_NODE_SHIFTER_UPDATE, ws);
+	}
+
 	/**
 	 * ノードボディのワークスペース上での範囲を取得する
 	 * @param node このノードのワークスペース上での範囲を取得する
@@ -25,9 +25,7 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.SerializationUtils;
 
-import net.seapanda.bunnyhop.message.MsgService;
 import net.seapanda.bunnyhop.model.node.BhNode;
-import net.seapanda.bunnyhop.model.node.attribute.BhNodeViewType;
 import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbolID;
 import net.seapanda.bunnyhop.model.workspace.WorkspaceSet;
 import net.seapanda.bunnyhop.modelprocessor.CallbackInvoker;
@@ -41,11 +39,6 @@ public class NodeGraphSnapshot {
 
 	private final Set<BhNode> rootNodeSet;	//!< スナップショット作成時の全ルートノードのコピー
 	private final WorkspaceSet wss;
-	/**
-	 * SyntaxSymbolID と対応する BhNodeView のマップ. <br>
-	 * BhNodeView はスナップショットではなく, オリジナルのモデル (BhNode) に対応するビューオブジェクト.
-	 */
-	private final Map<SyntaxSymbolID, BhNodeView> symbolIdToNodeView;
 	private final Map<SyntaxSymbolID, BhNode> symbolIdToNode;	//!< SyntaxSymbolID とそれに対応する BhNode のマップ.
 
 	/**
@@ -56,7 +49,6 @@ public class NodeGraphSnapshot {
 
 		this.wss = wss;
 		HashSet<BhNode> originalRootNodeSet = collectRootNodes(wss);
-		symbolIdToNodeView = collectNodeView(originalRootNodeSet);
 		rootNodeSet = SerializationUtils.clone(originalRootNodeSet);
 		symbolIdToNode = collectNode(rootNodeSet);
 	}
@@ -72,24 +64,6 @@ public class NodeGraphSnapshot {
 		return new HashSet<BhNode>(rootNodes);
 	}
 
-	/**
-	 * 引数のノードリストから辿れるノードのノードビューをシンボルIDと共に集めて返す
-	 */
-	private Map<SyntaxSymbolID, BhNodeView> collectNodeView(Collection<BhNode> rootNodeList) {
-
-		var symbolIdToNodeView = new HashMap<SyntaxSymbolID, BhNodeView>();
-		var registry = CallbackInvoker.newCallbackRegistry().setForAllNodes(
-			node -> {
-				if (!node.getType().equals(BhNodeViewType.NO_VIEW)) {
-					BhNodeView view = MsgService.INSTANCE.getBhNodeView(node);
-					symbolIdToNodeView.put(node.getSymbolID(), view);
-				}
-			});
-
-		rootNodeList.forEach(rootNode -> CallbackInvoker.invoke(registry, rootNode));
-		return symbolIdToNodeView;
-	}
-
 	/**
 	 * 引数のノードリストから辿れるノードをシンボルIDと共に集めて返す
 	 */
@@ -120,12 +94,22 @@ public class NodeGraphSnapshot {
 	}
 
 	/**
-	 * シンボルIDとそれに対応するノードビューのマップを返す. <br>
-	 * マップの BhNodeView はスナップショットではなく, オリジナルのモデル (BhNode) に対応するビューオブジェクト.
-	 * @return シンボルIDとそれに対応するノードビューのマップ
+	 * シンボルIDに対応するノードビューを返す. <br>
+	 * 返される BhNodeView はスナップショットではなく, オリジナルのモデル (BhNode) に対応するビューオブジェクト.
+	 * @param symbolId このシンボルIDを持つノードのビューを探す
+	 * @return {@code symbolId} に対応するノードビュー. オリジナルのノードが既に無い場合 null.
+	 */
+	public BhNodeView findNodeView(SyntaxSymbolID symbolId) {
+		return wss.findNodeView(symbolId);
+	}
+
+	/**
+	 * シンボルIDに対応するノード (スナップショット) を返す.
+	 * @param symbolId このシンボルIDを持つノードを探す
+	 * @return {@code symbolId} に対応するノード (スナップショット). 存在しない場合 null.
 	 */
-	public Map<SyntaxSymbolID, BhNodeView> getMapOfSymbolIdToNodeView() {
-		return new HashMap<>(symbolIdToNodeView);
+	public BhNode findNode(SyntaxSymbolID symbolId) {
+		return symbolIdToNode.get(symbolId);
 	}
 
 	/**
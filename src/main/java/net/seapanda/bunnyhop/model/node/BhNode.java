@@ -15,17 +15,22 @@
  */
 package net.seapanda.bunnyhop.model.node;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.Function;
 import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
 import org.mozilla.javascript.ScriptableObject;
 
 import net.seapanda.bunnyhop.common.constant.BhParams;
@@ -59,7 +64,10 @@ public abstract class BhNode extends SyntaxSymbol implements MsgReceptionWindow
 	private final BhNodeID bhID; //!< ノードID (\<Node\> タグの bhID)
 	protected Connector parentConnector;	//!< このノードを繋いでいるコネクタ
 	protected Workspace workspace;	//!< このノードがあるWorkSpace.
-	private Map<BhNodeEvent, String> eventToScriptName = new HashMap<>();
+	/** イベントとスクリプト名のマップ. ノード定義ごとに決まるので, 同じノードIDを持つノード間で共有する. */
+	private Map<BhNodeEvent, String> eventToScriptName = new EnumMap<>(BhNodeEvent.class);
+	/** ノードIDと, そのIDを持つノードが共有するイベントとスクリプト名のマップ */
+	private static final Map<BhNodeID, Map<BhNodeEvent, String>> idToEventToScriptName = new ConcurrentHashMap<>();
 	private BhNodeEventDispatcher dispatcher = new BhNodeEventDispatcher(this);
 
 
@@ -147,7 +155,7 @@ public abstract class BhNode extends SyntaxSymbol implements MsgReceptionWindow
 		bhID = org.bhID;
 		parentConnector = null;
 		workspace = null;
-		eventToScriptName = new HashMap<>(org.eventToScriptName);
+		eventToScriptName = shareEventToScriptName(bhID, org.eventToScriptName);
 		type = org.type;
 		lastReplaced = null;
 		isDefaultNode = org.isDefaultNode;
@@ -283,8 +291,14 @@ public abstract class BhNode extends SyntaxSymbol implements MsgReceptionWindow
 	 * @param userOpeCmd undo用コマンドオブジェクト
 	 * */
 	public void setWorkspace(Workspace workspace, UserOperationCommand userOpeCmd) {
+
 		userOpeCmd.pushCmdOfSetWorkspace(this.workspace, this);
+		if (this.workspace != null)
+			this.workspace.onNodeRemoved(this);
+
 		this.workspace = workspace;
+		if (workspace != null)
+			workspace.onNodeAdded(this);
 	}
 
 	/**
@@ -328,7 +342,7 @@ public abstract class BhNode extends SyntaxSymbol implements MsgReceptionWindow
 	public boolean isSelected() {
 		if (workspace == null)
 			return false;
-		return workspace.getSelectedNodeList().contains(this);
+		return workspace.isSelected(this);
 	}
 
 	/**
@@ -421,7 +435,8 @@ public abstract class BhNode extends SyntaxSymbol implements MsgReceptionWindow
 	}
 
 	/**
-	 * このノードに関連するスクリプト名をイベントとともに登録する.
+	 * このノードに関連するスクリプト名をイベントとともに登録する. <br>
+	 * 登録したマップはコピーしたノードと共有されるので, コンストラクタ以外から呼んではならない.
 	 * @param event スクリプトに対応するイベント
 	 * @param scriptName 登録するスクリプト名.  null もしくは空文字の場合は登録しない.
 	 */
@@ -433,6 +448,36 @@ public abstract class BhNode extends SyntaxSymbol implements MsgReceptionWindow
 		eventToScriptName.put(event, scriptName);
 	}
 
+	/**
+	 * このノードのイベントとスクリプト名のマップを, 同じノードIDを持つノードが共有するマップとして登録する. <br>
+	 * 既に登録されているマップは置き換える. テンプレートノードを登録するときに呼ぶこと.
+	 */
+	public void shareEventToScriptNameAsTemplate() {
+		idToEventToScriptName.put(bhID, eventToScriptName);
+	}
+
+	/**
+	 * 同じノードIDを持つノード間で共有するイベントとスクリプト名のマップを返す.
+	 * @param id このノードIDを持つノードが共有するマップを返す
+	 * @param eventToScriptName {@code id} に対応するマップがまだ無い場合 (テンプレートノードが無い場合), 共有マップとして登録するマップ
+	 * @return {@code id} を持つノードが共有するイベントとスクリプト名のマップ
+	 */
+	private static Map<BhNodeEvent, String> shareEventToScriptName(
+		BhNodeID id, Map<BhNodeEvent, String> eventToScriptName) {
+
+		Map<BhNodeEvent, String> shared = idToEventToScriptName.putIfAbsent(id, eventToScriptName);
+		return (shared == null) ? eventToScriptName : shared;
+	}
+
+	/**
+	 * デシリアライズしたマップではなく, テンプレートノードのイベントとスクリプト名のマップを使う.
+	 * テンプレートノードが無い場合のみデシリアライズしたマップを使う.
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		eventToScriptName = shareEventToScriptName(bhID, eventToScriptName);
+	}
+
 	/**
 	 * このノードに登録されたイベント処理を実行するオブジェクトを返す.
 	 * @return このノードに登録されたイベント処理を実行するオブジェクト
@@ -473,7 +518,10 @@ public abstract class BhNode extends SyntaxSymbol implements MsgReceptionWindow
 
 		if (ret instanceof Function) {
 			Function copyCheckFunc = (Function)ret;
-			return copy(userOpeCmd, genCopyCheckFunc(copyCheckFunc, scriptName.get()));
+			// コピー中に呼ぶコピー判定関数の実行環境とデフォルトのスコープは, ノードごとに作らず使いまわす
+			ScriptableObject copyCheckScope = getEventDispatcher().newDefaultScriptScope();
+			return ContextFactory.getGlobal().call(
+				cx -> copy(userOpeCmd, genCopyCheckFunc(cx, copyCheckScope, copyCheckFunc, scriptName.get())));
 		}
 
 		throw new AssertionError(
@@ -483,17 +531,22 @@ public abstract class BhNode extends SyntaxSymbol implements MsgReceptionWindow
 
 	/**
 	 * コピー判定関数を作成する.
+	 * @param cx copyCheckFunc を呼び出すときのコンテキスト
+	 * @param scriptScope copyCheckFunc を呼び出すときのスコープのプロトタイプ. 呼び出しごとにこれを継承したスコープを作る.
 	 * @param copyCheckFunc 作成するコピー判定関数が呼び出す Javascript の関数
 	 * @param scriptName copyCheckFunc を返したスクリプトの名前
 	 * @return コピー判定関数
 	 */
-	private Predicate<BhNode> genCopyCheckFunc(Function copyCheckFunc, String scriptName) {
+	private Predicate<BhNode> genCopyCheckFunc(
+		Context cx, ScriptableObject scriptScope, Function copyCheckFunc, String scriptName) {
 
 		Predicate<BhNode> isNodeToCopy = node -> {
 
-			ScriptableObject scriptScope = getEventDispatcher().newDefaultScriptScope();
-			Object retVal = ContextFactory.getGlobal().call(
-				cx -> ((Function)copyCheckFunc).call(cx, scriptScope, scriptScope, new Object[] {node}));
+			// 判定関数が定義した変数が次のノードの判定に残らないように, 呼び出しごとに子スコープを作る
+			Scriptable callScope = cx.newObject(scriptScope);
+			callScope.setPrototype(scriptScope);
+			callScope.setParentScope(null);
+			Object retVal = copyCheckFunc.call(cx, callScope, callScope, new Object[] {node});
 
 			if (!(retVal instanceof Boolean)) {
 				String msg = scriptName + " must return null or a function that returns a boolean value.";
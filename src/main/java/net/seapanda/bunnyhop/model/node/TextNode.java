@@ -37,6 +37,7 @@ import net.seapanda.bunnyhop.model.node.attribute.BhNodeViewType;
 import net.seapanda.bunnyhop.model.node.event.BhNodeEvent;
 import net.seapanda.bunnyhop.model.node.imitation.ImitationBase;
 import net.seapanda.bunnyhop.model.node.imitation.ImitationID;
+import net.seapanda.bunnyhop.model.syntaxsynbol.SymbolNamePath;
 import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
 import net.seapanda.bunnyhop.model.templates.BhNodeAttributes;
 import net.seapanda.bunnyhop.model.templates.BhNodeTemplates;
@@ -191,6 +192,11 @@ public class TextNode  extends ImitationBase<TextNode> {
 		return null;
 	}
 
+	@Override
+	protected SyntaxSymbol findChildOnPath(SymbolNamePath symbolNamePath, int idx) {
+		return null;
+	}
+
 	@Override
 	public void findSymbolInDescendants(
 		int generation,
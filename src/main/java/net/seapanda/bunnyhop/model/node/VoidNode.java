@@ -23,6 +23,7 @@ import net.seapanda.bunnyhop.common.constant.VersionInfo;
 import net.seapanda.bunnyhop.common.tools.MsgPrinter;
 import net.seapanda.bunnyhop.common.tools.Util;
 import net.seapanda.bunnyhop.model.node.attribute.BhNodeViewType;
+import net.seapanda.bunnyhop.model.syntaxsynbol.SymbolNamePath;
 import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
 import net.seapanda.bunnyhop.model.templates.BhNodeAttributes;
 import net.seapanda.bunnyhop.modelprocessor.BhModelProcessor;
@@ -114,6 +115,11 @@ public class VoidNode extends BhNode implements Serializable {
 		return null;
 	}
 
+	@Override
+	protected SyntaxSymbol findChildOnPath(SymbolNamePath symbolNamePath, int idx) {
+		return null;
+	}
+
 	@Override
 	public void findSymbolInDescendants(int generation, boolean toBottom, List<SyntaxSymbol> foundSymbolList, String... symbolNames) {
 
@@ -16,7 +16,9 @@
 package net.seapanda.bunnyhop.model.node.attribute;
 
 import java.io.Serializable;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.seapanda.bunnyhop.common.constant.VersionInfo;
 
@@ -27,7 +29,9 @@ import net.seapanda.bunnyhop.common.constant.VersionInfo;
 public class BhNodeID implements Serializable {
 
 	private static final long serialVersionUID = VersionInfo.SERIAL_VERSION_UID;
-	public static final BhNodeID NONE = new BhNodeID("");	//!< BhNodeIDが存在しないことを表す
+	/** 識別子名とBhノードIDのマップ. 同じ識別子名のBhノードIDは1つのオブジェクトを共有する. */
+	private static final Map<String, BhNodeID> nameToID = new ConcurrentHashMap<>();
+	public static final BhNodeID NONE = create("");	//!< BhNodeIDが存在しないことを表す
 	String id;
 
 	/**
@@ -39,12 +43,20 @@ public class BhNodeID implements Serializable {
 	}
 
 	/**
-	 * BhノードIDを作成する
+	 * BhノードIDを作成する. <br>
+	 * 同じ識別子名に対しては常に同じオブジェクトを返す.
 	 * @param id 識別子名
 	 * @return BhノードID
 	 */
 	public static BhNodeID create(String id) {
-		return new BhNodeID(id == null ? "" : id);
+		return nameToID.computeIfAbsent(id == null ? "" : id, BhNodeID::new);
+	}
+
+	/**
+	 * デシリアライズしたBhノードIDを同じ識別子名の共有オブジェクトで置き換える
+	 */
+	private Object readResolve() {
+		return create(id);
 	}
 
 	@Override
@@ -54,6 +66,8 @@ public class BhNodeID implements Serializable {
 
 	@Override
 	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
 		if (obj == null)
 			return false;
 		return (getClass() == obj.getClass()) && (id.equals(((BhNodeID)obj).id));
@@ -35,6 +35,7 @@ import net.seapanda.bunnyhop.model.node.attribute.BhNodeViewType;
 import net.seapanda.bunnyhop.model.node.event.BhNodeEvent;
 import net.seapanda.bunnyhop.model.node.imitation.ImitationBase;
 import net.seapanda.bunnyhop.model.node.imitation.ImitationID;
+import net.seapanda.bunnyhop.model.syntaxsynbol.SymbolNamePath;
 import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
 import net.seapanda.bunnyhop.model.templates.BhNodeAttributes;
 import net.seapanda.bunnyhop.model.templates.BhNodeTemplates;
@@ -146,6 +147,11 @@ public class ConnectiveNode extends ImitationBase<ConnectiveNode> {
 		}
 	}
 
+	@Override
+	protected SyntaxSymbol findChildOnPath(SymbolNamePath symbolNamePath, int idx) {
+		return childSection.findSymbolOnPath(symbolNamePath, idx);
+	}
+
 	@Override
 	public void findSymbolInDescendants(
 		int generation,
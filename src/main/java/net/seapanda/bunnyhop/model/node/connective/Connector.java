@@ -33,6 +33,7 @@ import net.seapanda.bunnyhop.model.node.BhNode;
 import net.seapanda.bunnyhop.model.node.attribute.BhNodeID;
 import net.seapanda.bunnyhop.model.node.imitation.ImitationConnectionPos;
 import net.seapanda.bunnyhop.model.node.imitation.ImitationID;
+import net.seapanda.bunnyhop.model.syntaxsynbol.SymbolNamePath;
 import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
 import net.seapanda.bunnyhop.model.templates.BhNodeTemplates;
 import net.seapanda.bunnyhop.modelprocessor.BhModelProcessor;
@@ -322,6 +323,11 @@ public class Connector extends SyntaxSymbol {
 		return outer;
 	}
 
+	@Override
+	protected SyntaxSymbol findChildOnPath(SymbolNamePath symbolNamePath, int idx) {
+		return connectedNode.findSymbolOnPath(symbolNamePath, idx);
+	}
+
 	@Override
 	public void findSymbolInDescendants(int generationi, boolean toBottom, List<SyntaxSymbol> foundSymbolList, String... symbolNames) {
 
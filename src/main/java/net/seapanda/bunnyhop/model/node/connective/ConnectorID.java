@@ -16,7 +16,9 @@
 package net.seapanda.bunnyhop.model.node.connective;
 
 import java.io.Serializable;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.seapanda.bunnyhop.common.constant.VersionInfo;
 
@@ -27,7 +29,9 @@ import net.seapanda.bunnyhop.common.constant.VersionInfo;
 public class ConnectorID implements Serializable {
 
 	private static final long serialVersionUID = VersionInfo.SERIAL_VERSION_UID;
-	public static final ConnectorID NONE = new ConnectorID("");	//!< コネクタIDが存在しないことを表す
+	/** 識別子名とコネクタIDのマップ. 同じ識別子名のコネクタIDは1つのオブジェクトを共有する. */
+	private static final Map<String, ConnectorID> nameToID = new ConcurrentHashMap<>();
+	public static final ConnectorID NONE = createCnctrID("");	//!< コネクタIDが存在しないことを表す
 	String id;
 
 	/**
@@ -39,12 +43,20 @@ public class ConnectorID implements Serializable {
 	}
 
 	/**
-	 * コネクタIDを作成する
+	 * コネクタIDを作成する. <br>
+	 * 同じ識別子名に対しては常に同じオブジェクトを返す.
 	 * @param id 識別子名
 	 * @return コネクタID
 	 */
 	public static ConnectorID createCnctrID(String id) {
-		return new ConnectorID(id == null ? "" : id);
+		return nameToID.computeIfAbsent(id == null ? "" : id, ConnectorID::new);
+	}
+
+	/**
+	 * デシリアライズしたコネクタIDを同じ識別子名の共有オブジェクトで置き換える
+	 */
+	private Object readResolve() {
+		return createCnctrID(id);
 	}
 
 	@Override
@@ -55,6 +67,9 @@ public class ConnectorID implements Serializable {
 	@Override
 	public boolean equals(Object obj) {
 
+		if (this == obj)
+			return true;
+
 		if (obj == null)
 			return false;
 
@@ -26,6 +26,7 @@ import net.seapanda.bunnyhop.common.tools.Util;
 import net.seapanda.bunnyhop.model.node.BhNode;
 import net.seapanda.bunnyhop.model.node.imitation.ImitationConnectionPos;
 import net.seapanda.bunnyhop.model.node.imitation.ImitationID;
+import net.seapanda.bunnyhop.model.syntaxsynbol.SymbolNamePath;
 import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
 import net.seapanda.bunnyhop.modelprocessor.BhModelProcessor;
 import net.seapanda.bunnyhop.undo.UserOperationCommand;
@@ -97,7 +98,8 @@ public class ConnectorSection extends Section {
 	 * @param visitor コネクタに渡す visitor
 	 * */
 	public void sendToConnectors(BhModelProcessor visitor) {
-		cnctrList.forEach(connector -> connector.accept(visitor));
+		for (int i = 0; i < cnctrList.size(); ++i)
+			cnctrList.get(i).accept(visitor);
 	}
 
 	/**
@@ -108,6 +110,17 @@ public class ConnectorSection extends Section {
 		return cnctrList;
 	}
 
+	@Override
+	protected SyntaxSymbol findChildOnPath(SymbolNamePath symbolNamePath, int idx) {
+
+		for (int i = 0; i < cnctrList.size(); ++i) {
+			SyntaxSymbol found = cnctrList.get(i).findSymbolOnPath(symbolNamePath, idx);
+			if (found != null)
+				return found;
+		}
+		return null;
+	}
+
 	@Override
 	public void findSymbolInDescendants(int generation, boolean toBottom, List<SyntaxSymbol> foundSymbolList, String... symbolNames) {
 
@@ -24,6 +24,7 @@ import net.seapanda.bunnyhop.common.constant.VersionInfo;
 import net.seapanda.bunnyhop.common.tools.MsgPrinter;
 import net.seapanda.bunnyhop.common.tools.Util;
 import net.seapanda.bunnyhop.model.node.BhNode;
+import net.seapanda.bunnyhop.model.syntaxsynbol.SymbolNamePath;
 import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbol;
 import net.seapanda.bunnyhop.modelprocessor.BhModelProcessor;
 import net.seapanda.bunnyhop.undo.UserOperationCommand;
@@ -77,7 +78,19 @@ public class Subsection extends Section {
 	 * @param visitor サブグループに渡す visitor
 	 * */
 	public void sendToSubsections(BhModelProcessor visitor) {
-		subsectionList.forEach(subsection -> subsection.accept(visitor));
+		for (int i = 0; i < subsectionList.size(); ++i)
+			subsectionList.get(i).accept(visitor);
+	}
+
+	@Override
+	protected SyntaxSymbol findChildOnPath(SymbolNamePath symbolNamePath, int idx) {
+
+		for (int i = 0; i < subsectionList.size(); ++i) {
+			SyntaxSymbol found = subsectionList.get(i).findSymbolOnPath(symbolNamePath, idx);
+			if (found != null)
+				return found;
+		}
+		return null;
 	}
 
 	@Override
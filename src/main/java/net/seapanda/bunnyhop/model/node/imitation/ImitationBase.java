@@ -15,12 +15,18 @@
  */
 package net.seapanda.bunnyhop.model.node.imitation;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import net.seapanda.bunnyhop.common.constant.VersionInfo;
 import net.seapanda.bunnyhop.model.node.BhNode;
@@ -37,9 +43,16 @@ import net.seapanda.bunnyhop.undo.UserOperationCommand;
 public abstract class ImitationBase<T extends ImitationBase<T>> extends Imitatable {
 
 	private static final long serialVersionUID = VersionInfo.SERIAL_VERSION_UID;
-	public final boolean canCreateImitManually;	//!< このオブジェクトを持つノードがイミテーションノードの手動作成機能を持つ場合 true
-	private final Map<ImitationID, BhNodeID> imitIdToImitNodeID;	//!< イミテーションタグとそれに対応するイミテーションノードIDのマップ
-	private final List<T> imitNodeList;	//!< このオブジェクトを持つノードから作成されたイミテーションノードの集合
+	/** 保存データとの互換性のため, イミテーションノードの集合は imitNodeList という名前の List として直列化する */
+	private static final ObjectStreamField[] serialPersistentFields = {
+		new ObjectStreamField("canCreateImitManually", boolean.class),
+		new ObjectStreamField("imitIdToImitNodeID", Map.class),
+		new ObjectStreamField("imitNodeList", List.class),
+		new ObjectStreamField("orgNode", ImitationBase.class)};
+	private boolean canCreateImitManually;	//!< このオブジェクトを持つノードがイミテーションノードの手動作成機能を持つ場合 true
+	private Map<ImitationID, BhNodeID> imitIdToImitNodeID;	//!< イミテーションタグとそれに対応するイミテーションノードIDのマップ
+	/** このオブジェクトを持つノードから作成されたイミテーションノードの集合. 追加, 削除を定数時間で行い, 追加順を保持するため LinkedHashSet を使う. */
+	private Set<T> imitNodes;
 	private T orgNode;	//!< このオブジェクトを持つノードがイミテーションノードの場合、そのオリジナルノードを保持する
 
 	/**
@@ -47,6 +60,14 @@ public abstract class ImitationBase<T extends ImitationBase<T>> extends Imitatab
 	 */
 	protected abstract T self();
 
+	/**
+	 * このオブジェクトを持つノードがイミテーションノードの手動作成機能を持つか調べる
+	 * @return このオブジェクトを持つノードがイミテーションノードの手動作成機能を持つ場合 true
+	 */
+	public boolean canCreateImitManually() {
+		return canCreateImitManually;
+	}
+
 	/**
 	 * 引数で指定したイミテーションタグに対応したイミテーションノードを作成する
 	 * @param imitID このイミテーションIDに対応したイミテーションノードを作成する
@@ -64,7 +85,7 @@ public abstract class ImitationBase<T extends ImitationBase<T>> extends Imitatab
 
 		this.canCreateImitManually = attributes.getCanCreateImitManually();
 		this.imitIdToImitNodeID = imitIdToImitNodeID;
-		imitNodeList = new ArrayList<>();
+		imitNodes = new LinkedHashSet<>();
 		orgNode = null;
 	}
 
@@ -78,7 +99,7 @@ public abstract class ImitationBase<T extends ImitationBase<T>> extends Imitatab
 		super(org);
 		imitIdToImitNodeID = org.imitIdToImitNodeID;
 		canCreateImitManually = org.canCreateImitManually;
-		imitNodeList = new ArrayList<>();	//元ノードをコピーしても、イミテーションノードとのつながりは無いようにする
+		imitNodes = new LinkedHashSet<>();	//元ノードをコピーしても、イミテーションノードとのつながりは無いようにする
 		orgNode = null;
 
 		//イミテーションをコピーした場合, コピー元と同じオリジナルノードのイミテーションノードとする
@@ -116,7 +137,7 @@ public abstract class ImitationBase<T extends ImitationBase<T>> extends Imitatab
 	 */
 	public void addImitation(T imitNode, UserOperationCommand userOpeCmd) {
 
-		imitNodeList.add(imitNode);
+		imitNodes.add(imitNode);
 		userOpeCmd.pushCmdOfAddImitation(imitNode, self());
 	}
 
@@ -127,13 +148,13 @@ public abstract class ImitationBase<T extends ImitationBase<T>> extends Imitatab
 	 */
 	public void removeImitation(T imitNode, UserOperationCommand userOpeCmd) {
 
-		imitNodeList.remove(imitNode);
+		imitNodes.remove(imitNode);
 		userOpeCmd.pushCmdOfRemoveImitation(imitNode, self());
 	}
 
 	@Override
 	public Collection<T> getImitationList() {
-		return Collections.unmodifiableList(imitNodeList);
+		return Collections.unmodifiableSet(imitNodes);
 	}
 
 	/**
@@ -159,7 +180,7 @@ public abstract class ImitationBase<T extends ImitationBase<T>> extends Imitatab
 	public Imitatable findExistingOrCreateNewImit(BhNode oldNode, UserOperationCommand userOpeCmd) {
 
 		BhNode outerTailOfOldNode = oldNode.findOuterNode(-1);
-		for(T imit : imitNodeList) {
+		for(T imit : imitNodes) {
 			//新しく入れ替わるノードの外部末尾ノードが最後に入れ替わったノードの外部末尾ノードと一致するイミテーションノードを入れ替えイミテーションノードとする
 			if  (imit.getLastReplaced() != null) {
 				if(!imit.isInWorkspace() && imit.getLastReplaced().findOuterNode(-1) == outerTailOfOldNode) {
@@ -209,6 +230,26 @@ public abstract class ImitationBase<T extends ImitationBase<T>> extends Imitatab
 
 		return parentConnector.isConnectedNodeReplaceableWith(node);
 	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+
+		ObjectOutputStream.PutField fields = out.putFields();
+		fields.put("canCreateImitManually", canCreateImitManually);
+		fields.put("imitIdToImitNodeID", imitIdToImitNodeID);
+		fields.put("imitNodeList", new ArrayList<>(imitNodes));
+		fields.put("orgNode", orgNode);
+		out.writeFields();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+		ObjectInputStream.GetField fields = in.readFields();
+		canCreateImitManually = fields.get("canCreateImitManually", false);
+		imitIdToImitNodeID = (Map<ImitationID, BhNodeID>)fields.get("imitIdToImitNodeID", null);
+		imitNodes = new LinkedHashSet<>((List<T>)fields.get("imitNodeList", null));
+		orgNode = (T)fields.get("orgNode", null);
+	}
 }
 
 
@@ -16,7 +16,9 @@
 package net.seapanda.bunnyhop.model.node.imitation;
 
 import java.io.Serializable;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.seapanda.bunnyhop.common.constant.VersionInfo;
 
@@ -27,7 +29,9 @@ import net.seapanda.bunnyhop.common.constant.VersionInfo;
 public class ImitationConnectionPos implements Serializable {
 
 	private static final long serialVersionUID = VersionInfo.SERIAL_VERSION_UID;
-	public static final ImitationConnectionPos NONE = new ImitationConnectionPos("");	//!< イミテーション接続位置が存在しないことを表す
+	/** 接続先名とイミテーション接続位置の識別子のマップ. 同じ接続先名の識別子は1つのオブジェクトを共有する. */
+	private static final Map<String, ImitationConnectionPos> nameToPos = new ConcurrentHashMap<>();
+	public static final ImitationConnectionPos NONE = createImitCnctPoint("");	//!< イミテーション接続位置が存在しないことを表す
 	private final String pos;
 
 	/**
@@ -39,12 +43,20 @@ public class ImitationConnectionPos implements Serializable {
 	}
 
 	/**
-	 * イミテーション接続位置の識別子を作成する
+	 * イミテーション接続位置の識別子を作成する. <br>
+	 * 同じ接続先名に対しては常に同じオブジェクトを返す.
 	 * @param point イミテーション接続位置名
 	 * @return イミテーション接続位置の識別子
 	 */
 	public static ImitationConnectionPos createImitCnctPoint(String point) {
-		return new ImitationConnectionPos(point == null ? "" : point);
+		return nameToPos.computeIfAbsent(point == null ? "" : point, ImitationConnectionPos::new);
+	}
+
+	/**
+	 * デシリアライズしたイミテーション接続位置の識別子を同じ接続先名の共有オブジェクトで置き換える
+	 */
+	private Object readResolve() {
+		return createImitCnctPoint(pos);
 	}
 
 	@Override
@@ -54,6 +66,8 @@ public class ImitationConnectionPos implements Serializable {
 
 	@Override
 	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
 		if (obj == null)
 			return false;
 		return (getClass() == obj.getClass()) && (pos.equals(((ImitationConnectionPos)obj).pos));
@@ -16,7 +16,9 @@
 package net.seapanda.bunnyhop.model.node.imitation;
 
 import java.io.Serializable;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.seapanda.bunnyhop.common.constant.BhParams;
 import net.seapanda.bunnyhop.common.constant.VersionInfo;
@@ -28,8 +30,10 @@ import net.seapanda.bunnyhop.common.constant.VersionInfo;
 public class ImitationID implements Serializable {
 
 	private static final long serialVersionUID = VersionInfo.SERIAL_VERSION_UID;
-	public static final ImitationID NONE = new ImitationID("");	//!< イミテーションIDが存在しないことを表す
-	public static final ImitationID MANUAL = new ImitationID(BhParams.BhModelDef.ATTR_VALUE_IMIT_ID_MANUAL);	//!< イミテーション手動作成時のID
+	/** 識別子名とイミテーションIDのマップ. 同じ識別子名のイミテーションIDは1つのオブジェクトを共有する. */
+	private static final Map<String, ImitationID> nameToID = new ConcurrentHashMap<>();
+	public static final ImitationID NONE = create("");	//!< イミテーションIDが存在しないことを表す
+	public static final ImitationID MANUAL = create(BhParams.BhModelDef.ATTR_VALUE_IMIT_ID_MANUAL);	//!< イミテーション手動作成時のID
 	private final String id;
 
 	/**
@@ -41,12 +45,20 @@ public class ImitationID implements Serializable {
 	}
 
 	/**
-	 * イミテーションIDを作成する
+	 * イミテーションIDを作成する. <br>
+	 * 同じ識別子名に対しては常に同じオブジェクトを返す.
 	 * @param id 識別子名
 	 * @return イミテーションID
 	 */
 	public static ImitationID create(String id) {
-		return new ImitationID(id == null ? "" : id);
+		return nameToID.computeIfAbsent(id == null ? "" : id, ImitationID::new);
+	}
+
+	/**
+	 * デシリアライズしたイミテーションIDを同じ識別子名の共有オブジェクトで置き換える
+	 */
+	private Object readResolve() {
+		return create(id);
 	}
 
 	@Override
@@ -56,6 +68,8 @@ public class ImitationID implements Serializable {
 
 	@Override
 	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
 		if (obj == null)
 			return false;
 		return (getClass() == obj.getClass()) && (id.equals(((ImitationID)obj).id));
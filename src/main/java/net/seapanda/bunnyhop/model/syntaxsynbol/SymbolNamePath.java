@@ -0,0 +1,82 @@
+/**
+ * Copyright 2017 K.Koike
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.seapanda.bunnyhop.model.syntaxsynbol;
+
+/**
+ * 子孫の SyntaxSymbol を探すときに使うシンボル名のパス <br>
+ * ワイルドカードの解析は作成時に一度だけ行う.
+ * @author K.Koike
+ */
+public class SymbolNamePath {
+
+	private final String[] namesBeforeWildcard;	//!< 各階層のシンボル名のワイルドカードより前の部分. ワイルドカードが無い場合はシンボル名全体.
+	private final boolean[] hasWildcard;	//!< 各階層のシンボル名にワイルドカードが含まれる場合 true
+
+	/**
+	 * コンストラクタ
+	 * @param symbolNamePath 子から順に並べたシンボル名. ワイルドカード指定可.  <br>
+	 *                        symbolNamePath[0] == childName, symbolNamePath[1] == grandsonName
+	 */
+	public SymbolNamePath(String... symbolNamePath) {
+
+		namesBeforeWildcard = new String[symbolNamePath.length];
+		hasWildcard = new boolean[symbolNamePath.length];
+		for (int i = 0; i < symbolNamePath.length; ++i) {
+			String name = symbolNamePath[i];
+			int wildcardIdx = (name == null) ? -1 : name.indexOf('*');
+			hasWildcard[i] = wildcardIdx >= 0;
+			namesBeforeWildcard[i] = hasWildcard[i] ? name.substring(0, wildcardIdx) : name;
+		}
+	}
+
+	/**
+	 * パスの長さを返す
+	 * @return パスの長さ
+	 */
+	public int length() {
+		return namesBeforeWildcard.length;
+	}
+
+	/**
+	 * 引数で指定したシンボル名がパスの idx 番目の名前に一致するか調べる
+	 * @param idx パスの何番目の名前と比較するか
+	 * @param symbolName 比較するシンボル名. ワイルドカード指定不可.
+	 * @return 一致する場合 true. (idx 番目の名前にワイルドカードがある場合, ワイルドカード以前の部分を含んでいれば一致とみなす)
+	 */
+	public boolean matches(int idx, String symbolName) {
+
+		String name = namesBeforeWildcard[idx];
+		if (symbolName == null || name == null)
+			return false;
+
+		if (hasWildcard[idx])
+			return symbolName.contains(name);
+
+		return symbolName.equals(name);
+	}
+}
+
+
+
+
+
+
+
+
+
+
+
+
@@ -15,8 +15,9 @@
  */
 package net.seapanda.bunnyhop.model.syntaxsynbol;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
@@ -32,7 +33,7 @@ import net.seapanda.bunnyhop.modelprocessor.BhModelProcessor;
 public abstract class SyntaxSymbol implements Showable, Serializable {
 
 	private static final long serialVersionUID = VersionInfo.SERIAL_VERSION_UID;
-	private final String symbolName;	//!< 終端, 非終端記号名
+	private String symbolName;	//!< 終端, 非終端記号名. 同じ名前は全てのシンボルで1つの String オブジェクトを共有する.
 	private SyntaxSymbolID symbolID = SyntaxSymbolID.newID();	//!< SyntaxSymbolオブジェクトが持つID
 
 	/**
@@ -66,23 +67,47 @@ public abstract class SyntaxSymbol implements Showable, Serializable {
 	public SyntaxSymbol findSymbolInDescendants(String... symbolNamePath) {
 
 		assert symbolNamePath.length != 0;
+		return findSymbolInDescendants(new SymbolNamePath(symbolNamePath));
+	}
 
-		List<SyntaxSymbol> foundSymbolList = new ArrayList<>();
-		findSymbolInDescendants(symbolNamePath.length, false, foundSymbolList, symbolNamePath[symbolNamePath.length - 1]);
-		//symbolNamePath == (a,b,c)  => reverseSymbolNamePath == (b,a,thisSymbolName)
-		String[] reverseSymbolNamePath = new String[symbolNamePath.length];
-		for (int i = symbolNamePath.length - 2, j = 0; i >= 0; --i, ++j) {
-			reverseSymbolNamePath[j] = symbolNamePath[i];
-		}
-		reverseSymbolNamePath[reverseSymbolNamePath.length - 1] = symbolName;
-		for (SyntaxSymbol foundSymbol : foundSymbolList) {
-			if (foundSymbol.findSymbolInAncestors(reverseSymbolNamePath) == this) {
-				return foundSymbol;
-			}
-		}
-		return null;
+	/**
+	 * 引数で指定したパスのとおりに子から順にたどって SyntaxSymbol を探す.
+	 * @param symbolNamePath 子孫ノードのパスに, このパスのとおりに繋がっているパスがある場合, パスの最後の名前のノードを返す.
+	 * @return パスの最後のシンボル名を持つ SyntaxSymbol オブジェクト.  見つからなかった場合は null.
+	 */
+	public SyntaxSymbol findSymbolInDescendants(SymbolNamePath symbolNamePath) {
+
+		if (symbolNamePath.length() == 0)
+			return null;
+
+		return findChildOnPath(symbolNamePath, 0);
 	}
 
+	/**
+	 * このシンボルのシンボル名が symbolNamePath の idx 番目の名前に一致する場合, 残りのパスのとおりに子孫をたどる.
+	 * @param symbolNamePath たどるパス
+	 * @param idx このシンボルと比較するパスの名前のインデックス
+	 * @return パスの最後の名前に一致したシンボル. 見つからなかった場合は null.
+	 */
+	public SyntaxSymbol findSymbolOnPath(SymbolNamePath symbolNamePath, int idx) {
+
+		if (!symbolNamePath.matches(idx, symbolName))
+			return null;
+
+		if (idx == symbolNamePath.length() - 1)
+			return this;
+
+		return findChildOnPath(symbolNamePath, idx + 1);
+	}
+
+	/**
+	 * symbolNamePath の idx 番目の名前に一致する子から, 残りのパスのとおりに子孫をたどる.
+	 * @param symbolNamePath たどるパス
+	 * @param idx 子と比較するパスの名前のインデックス
+	 * @return パスの最後の名前に一致したシンボル. 見つからなかった場合は null.
+	 */
+	protected abstract SyntaxSymbol findChildOnPath(SymbolNamePath symbolNamePath, int idx);
+
 	/**
 	 * 引数で指定したシンボル名を持つSyntaxSymbolを親以上のSyntaxSymbolから探す.
 	 * @param symbolNamePath 先祖ノードがこの名前のリストのとおりにつながっているとき, リストの最後の名前のノードを返す.<br>
@@ -150,7 +175,7 @@ public abstract class SyntaxSymbol implements Showable, Serializable {
 	 * @param symbolName
 	 * */
 	protected SyntaxSymbol(String symbolName) {
-		this.symbolName = symbolName;
+		this.symbolName = (symbolName == null) ? null : symbolName.intern();
 	}
 
 	/**
@@ -169,6 +194,15 @@ public abstract class SyntaxSymbol implements Showable, Serializable {
 		return symbolName;
 	}
 
+	/**
+	 * デシリアライズ時にシンボル名を共有オブジェクトに置き換える
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		if (symbolName != null)
+			symbolName = symbolName.intern();
+	}
+
 	/**
 	 * シンボルIDを取得する
 	 * @return シンボルID
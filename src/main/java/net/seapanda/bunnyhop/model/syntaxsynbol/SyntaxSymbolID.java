@@ -16,47 +16,79 @@
 
 package net.seapanda.bunnyhop.model.syntaxsynbol;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
-import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
 import net.seapanda.bunnyhop.common.constant.VersionInfo;
 
 /**
- * SyntaxSymbolのID
+ * SyntaxSymbolのID <br>
+ * ID は数値で保持し, 文字列表現 (16 進数) は必要になったときに作る.
  * @author K.Koike
  * */
 public class SyntaxSymbolID implements Serializable {
 
 	private static final long serialVersionUID = VersionInfo.SERIAL_VERSION_UID;
+	/** 保存データとの互換性のため, ID は文字列表現で直列化する */
+	private static final ObjectStreamField[] serialPersistentFields = {new ObjectStreamField("id", String.class)};
 	static private AtomicLong sequentialID = new AtomicLong(0);
-	private final String id;
+	private long id;
 
 	static SyntaxSymbolID newID() {
-		long id = sequentialID.addAndGet(1);
-		return new SyntaxSymbolID(Long.toHexString(id));
+		return new SyntaxSymbolID(sequentialID.addAndGet(1));
 	}
 
-	private SyntaxSymbolID(String id) {
+	private SyntaxSymbolID(long id) {
 		this.id = id;
 	}
 
+	/**
+	 * 文字列表現からシンボルIDを作成する
+	 * @param str {@link #toString} で得られるシンボルIDの文字列表現
+	 * @return 作成したシンボルID. {@code str} がシンボルIDの文字列表現でない場合 Optional.empty.
+	 */
+	public static Optional<SyntaxSymbolID> parse(String str) {
+
+		try {
+			return Optional.of(new SyntaxSymbolID(Long.parseUnsignedLong(str, 16)));
+		}
+		catch (NumberFormatException e) {
+			return Optional.empty();
+		}
+	}
+
 	@Override
 	public String toString() {
-		return id;
+		return Long.toHexString(id);
 	}
 
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == null)
 			return false;
-		return (getClass() == obj.getClass()) && (id.equals(((SyntaxSymbolID)obj).id));
+		return (getClass() == obj.getClass()) && (id == ((SyntaxSymbolID)obj).id);
 	}
 
 	@Override
 	public int hashCode() {
-		int hash = 71;
-		hash = 311 * hash + Objects.hashCode(this.id);
-		return hash;
+		return Long.hashCode(id);
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+
+		ObjectOutputStream.PutField fields = out.putFields();
+		fields.put("id", toString());
+		out.writeFields();
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+		ObjectInputStream.GetField fields = in.readFields();
+		id = Long.parseUnsignedLong((String)fields.get("id", null), 16);
 	}
 }
@@ -300,6 +300,15 @@ public class BhNodeTemplates {
 		return hasConsistency;
 	}
 
+	/**
+	 * 引数で指定したノードがテンプレートノードかどうか調べる
+	 * @param node 調べるノード
+	 * @return {@code node} がテンプレートノードの場合 true
+	 */
+	public boolean isTemplate(BhNode node) {
+		return nodeID_nodeTemplate.get(node.getID()) == node;
+	}
+
 	/**
 	 * ノードIDとノードテンプレートを登録する
 	 * @param nodeID bhNodeのID
@@ -315,6 +324,7 @@ public class BhNodeTemplates {
 			});
 
 		nodeID_nodeTemplate.put(nodeID, nodeTemplate);
+		nodeTemplate.shareEventToScriptNameAsTemplate();
 	}
 
 	/**
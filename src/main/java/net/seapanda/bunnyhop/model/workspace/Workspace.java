@@ -92,6 +92,24 @@ public class Workspace implements MsgReceptionWindow, Serializable {
 		workspaceSet = wss;
 	}
 
+	/**
+	 * このワークスペースに属するノードが増えたときに呼ぶ
+	 * @param node このワークスペースに属するようになったノード
+	 */
+	public void onNodeAdded(BhNode node) {
+		if (workspaceSet != null)
+			workspaceSet.addToNodeIndex(node);
+	}
+
+	/**
+	 * このワークスペースに属するノードが減ったときに呼ぶ
+	 * @param node このワークスペースに属さなくなったノード
+	 */
+	public void onNodeRemoved(BhNode node) {
+		if (workspaceSet != null)
+			workspaceSet.removeFromNodeIndex(node);
+	}
+
 	/**
 	 * このワークスペースを持つワークスペースセットを返す
 	 * @return このワークスペースを持つワークスペースセット
@@ -137,8 +155,19 @@ public class Workspace implements MsgReceptionWindow, Serializable {
 		if ((selectedList.size() == 1) && selectedList.contains(selected))
 			return;
 
-		clearSelectedNodeList(userOpeCmd);
-		addSelectedNode(selected, userOpeCmd);
+		boolean changed = false;
+		MsgService.INSTANCE.beginMultiNodeShifterUpdate(this);
+		try {
+			for (BhNode node : new ArrayList<>(selectedList))
+				changed |= removeFromSelectedList(node, userOpeCmd);
+
+			changed |= addToSelectedList(selected, userOpeCmd);
+		}
+		finally {
+			MsgService.INSTANCE.endMultiNodeShifterUpdate(this);
+		}
+		if (changed)
+			invokeOnSelectedNodeChanged();
 	}
 
 	/**
@@ -148,15 +177,48 @@ public class Workspace implements MsgReceptionWindow, Serializable {
 	 */
 	public void addSelectedNode(BhNode nodeToAdd, UserOperationCommand userOpeCmd) {
 
-		if (selectedList.contains(nodeToAdd))
-			return;
+		if (addToSelectedList(nodeToAdd, userOpeCmd))
+			invokeOnSelectedNodeChanged();
+	}
+
+	/**
+	 * 選択されたノードをまとめて選択済みリストに追加する. <br>
+	 * 選択ノードリストの変化を通知するイベントハンドラとマルチノードシフタの位置の更新は, 追加したノードの数によらず1度だけ行う.
+	 * @param nodesToAdd 追加されるノードのリスト
+	 * @param userOpeCmd undo用コマンドオブジェクト
+	 */
+	public void addSelectedNodes(Collection<? extends BhNode> nodesToAdd, UserOperationCommand userOpeCmd) {
+
+		boolean changed = false;
+		MsgService.INSTANCE.beginMultiNodeShifterUpdate(this);
+		try {
+			for (BhNode node : nodesToAdd)
+				changed |= addToSelectedList(node, userOpeCmd);
+		}
+		finally {
+			MsgService.INSTANCE.endMultiNodeShifterUpdate(this);
+		}
+
+		if (changed)
+			invokeOnSelectedNodeChanged();
+	}
+
+	/**
+	 * ノードを選択済みリストに追加し, ビューの選択表示を更新する. (イベントハンドラは呼ばない)
+	 * @param nodeToAdd 追加されるノード
+	 * @param userOpeCmd undo用コマンドオブジェクト
+	 * @return 選択済みリストが変化した場合 true
+	 */
+	private boolean addToSelectedList(BhNode nodeToAdd, UserOperationCommand userOpeCmd) {
+
+		if (!selectedList.add(nodeToAdd))
+			return false;
 
-		selectedList.add(nodeToAdd);
 		MsgService.INSTANCE.selectNodeView(nodeToAdd, true);
 		MsgService.INSTANCE.updateMultiNodeShifter(nodeToAdd, this);
 		MsgService.INSTANCE.hilightImit(nodeToAdd, true);
-		onSelectedNodeListChangedToThreadFlag.forEach(this::invokeOnSelectedNodeChanged);
 		userOpeCmd.pushCmdOfAddSelectedNode(this, nodeToAdd);
+		return true;
 	}
 
 	/**
@@ -167,6 +229,15 @@ public class Workspace implements MsgReceptionWindow, Serializable {
 		return Collections.unmodifiableList(new ArrayList<>(selectedList));
 	}
 
+	/**
+	 * 引数で指定したノードが選択されているかどうか調べる. (選択済みリストのコピーは作らない)
+	 * @param node 選択されているかどうか調べるノード
+	 * @return {@code node} が選択されている場合 true
+	 */
+	public boolean isSelected(BhNode node) {
+		return selectedList.contains(node);
+	}
+
 	/**
 	 * 引数で指定したノードを選択済みリストから削除する
 	 * @param nodeToRemove 選択済みリストから削除するBhNode
@@ -174,27 +245,76 @@ public class Workspace implements MsgReceptionWindow, Serializable {
 	 */
 	public void removeSelectedNode(BhNode nodeToRemove, UserOperationCommand userOpeCmd) {
 
-		if (!selectedList.contains(nodeToRemove))
-			return;
+		if (removeFromSelectedList(nodeToRemove, userOpeCmd))
+			invokeOnSelectedNodeChanged();
+	}
+
+	/**
+	 * 引数で指定したノードをまとめて選択済みリストから削除する. <br>
+	 * 選択ノードリストの変化を通知するイベントハンドラとマルチノードシフタの位置の更新は, 削除したノードの数によらず1度だけ行う.
+	 * @param nodesToRemove 選択済みリストから削除するノードのリスト
+	 * @param userOpeCmd undo用コマンドオブジェクト
+	 */
+	public void removeSelectedNodes(Collection<? extends BhNode> nodesToRemove, UserOperationCommand userOpeCmd) {
+
+		boolean changed = false;
+		MsgService.INSTANCE.beginMultiNodeShifterUpdate(this);
+		try {
+			for (BhNode node : nodesToRemove)
+				changed |= removeFromSelectedList(node, userOpeCmd);
+		}
+		finally {
+			MsgService.INSTANCE.endMultiNodeShifterUpdate(this);
+		}
+
+		if (changed)
+			invokeOnSelectedNodeChanged();
+	}
+
+	/**
+	 * ノードを選択済みリストから削除し, ビューの選択表示を更新する. (イベントハンドラは呼ばない)
+	 * @param nodeToRemove 選択済みリストから削除するノード
+	 * @param userOpeCmd undo用コマンドオブジェクト
+	 * @return 選択済みリストが変化した場合 true
+	 */
+	private boolean removeFromSelectedList(BhNode nodeToRemove, UserOperationCommand userOpeCmd) {
+
+		if (!selectedList.remove(nodeToRemove))
+			return false;
 
-		selectedList.remove(nodeToRemove);
 		MsgService.INSTANCE.selectNodeView(nodeToRemove, false);
 		MsgService.INSTANCE.updateMultiNodeShifter(nodeToRemove, this);
 		MsgService.INSTANCE.hilightImit(nodeToRemove, false);
-		onSelectedNodeListChangedToThreadFlag.forEach(this::invokeOnSelectedNodeChanged);
 		userOpeCmd.pushCmdOfRemoveSelectedNode(this, nodeToRemove);
+		return true;
+	}
+
+	/**
+	 * 選択変更時のイベントハンドラを全て呼び出す. <br>
+	 * ハンドラに渡す選択ノードリストは, 全ハンドラで共有する.
+	 */
+	private void invokeOnSelectedNodeChanged() {
+
+		if (onSelectedNodeListChangedToThreadFlag.isEmpty())
+			return;
+
+		List<BhNode> selectedNodeList = getSelectedNodeList();
+		onSelectedNodeListChangedToThreadFlag.forEach(
+			(handler, invokeOnUiThread) -> invokeOnSelectedNodeChanged(handler, invokeOnUiThread, selectedNodeList));
 	}
 
 	/**
 	 * 選択変更時のイベントハンドラを呼び出す
 	 */
 	private void invokeOnSelectedNodeChanged(
-		BiConsumer<? super Workspace, ? super Collection<? super BhNode>> handler, boolean invokeOnUiThread) {
+		BiConsumer<? super Workspace, ? super Collection<? super BhNode>> handler,
+		boolean invokeOnUiThread,
+		List<BhNode> selectedNodeList) {
 
 		if (invokeOnUiThread && !Platform.isFxApplicationThread())
-			Platform.runLater(() -> handler.accept(this, getSelectedNodeList()));
+			Platform.runLater(() -> handler.accept(this, selectedNodeList));
 		else
-			handler.accept(this, getSelectedNodeList());
+			handler.accept(this, selectedNodeList);
 	}
 
 	/**
@@ -202,11 +322,7 @@ public class Workspace implements MsgReceptionWindow, Serializable {
 	 * @param userOpeCmd undo用コマンドオブジェクト
 	 * */
 	public void clearSelectedNodeList(UserOperationCommand userOpeCmd) {
-
-		BhNode[] nodesToDeselect = selectedList.toArray(new BhNode[selectedList.size()]);
-		for (BhNode node : nodesToDeselect) {
-			removeSelectedNode(node, userOpeCmd);
-		}
+		removeSelectedNodes(new ArrayList<>(selectedList), userOpeCmd);
 	}
 
 	/**
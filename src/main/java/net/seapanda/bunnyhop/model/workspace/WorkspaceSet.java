@@ -48,6 +48,9 @@ import net.seapanda.bunnyhop.message.MsgProcessor;
 import net.seapanda.bunnyhop.message.MsgReceptionWindow;
 import net.seapanda.bunnyhop.message.MsgService;
 import net.seapanda.bunnyhop.model.node.BhNode;
+import net.seapanda.bunnyhop.model.node.attribute.BhNodeViewType;
+import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbolID;
+import net.seapanda.bunnyhop.modelprocessor.CallbackInvoker;
 import net.seapanda.bunnyhop.modelprocessor.NodeMVCBuilder;
 import net.seapanda.bunnyhop.modelprocessor.TextImitationPrompter;
 import net.seapanda.bunnyhop.modelservice.BhNodeHandler;
@@ -58,6 +61,7 @@ import net.seapanda.bunnyhop.modelservice.SyntaxErrorNodeManager;
 import net.seapanda.bunnyhop.root.BunnyHop;
 import net.seapanda.bunnyhop.saveandload.ProjectSaveData;
 import net.seapanda.bunnyhop.undo.UserOperationCommand;
+import net.seapanda.bunnyhop.view.node.BhNodeView;
 
 /**
  * ワークスペースの集合を保持、管理するクラス
@@ -71,6 +75,11 @@ public class WorkspaceSet implements MsgReceptionWindow {
 	private MsgProcessor msgProcessor;	//!< このオブジェクト宛てに送られたメッセージを処理するオブジェクト
 	private int pastePosOffsetCount = -2; //!< ノードの貼り付け位置をずらすためのカウンタ
 	private Workspace currentWorkspace;
+	/**
+	 * このワークスペースセット内の全ノードとそのシンボルIDのマップ. ノードのワークスペースが変わるたびに更新される. <br>
+	 * 更新はモデルの変更用ロックを取得した状態で行われるので, 参照する側はモデルの読み取り用ロックを取得すること.
+	 */
+	private final Map<SyntaxSymbolID, BhNode> symbolIdToNode = new HashMap<>();
 
 	/** コピー予定ノードのリストに変化がった時のイベントハンドラと呼び出しスレッドのフラグのマップ */
 	private final Map<ListChangeListener<? super BhNode>, Boolean> onCopyNodeListChangedToThreadFlag = new HashMap<>();
@@ -111,6 +120,8 @@ public class WorkspaceSet implements MsgReceptionWindow {
 		workspaceList.add(workspace);
 		workspace.setWorkspaceSet(this);
 		workspace.addOnSelectedNodeListChanged(this::callSelectedNodeListChangedEventHandlers, false);
+		var registry = CallbackInvoker.newCallbackRegistry().setForAllNodes(this::addToNodeIndex);
+		workspace.getRootNodeList().forEach(root -> CallbackInvoker.invoke(registry, root));
 	}
 
 	/**
@@ -122,6 +133,51 @@ public class WorkspaceSet implements MsgReceptionWindow {
 		workspaceList.remove(workspace);
 		workspace.setWorkspaceSet(null);
 		workspace.removeOnSelectedNodeListChanged(this::callSelectedNodeListChangedEventHandlers);
+		var registry = CallbackInvoker.newCallbackRegistry().setForAllNodes(this::removeFromNodeIndex);
+		workspace.getRootNodeList().forEach(root -> CallbackInvoker.invoke(registry, root));
+	}
+
+	/**
+	 * ノードをシンボルIDで引けるようにする. <br>
+	 * ノードのワークスペースが, このワークスペースセットのワークスペースになったときに呼ぶこと.
+	 * @param node 登録するノード
+	 */
+	void addToNodeIndex(BhNode node) {
+		symbolIdToNode.put(node.getSymbolID(), node);
+	}
+
+	/**
+	 * ノードをシンボルIDで引けないようにする. <br>
+	 * ノードのワークスペースが, このワークスペースセットのワークスペースでなくなったときに呼ぶこと.
+	 * @param node 登録を解除するノード
+	 */
+	void removeFromNodeIndex(BhNode node) {
+		symbolIdToNode.remove(node.getSymbolID(), node);
+	}
+
+	/**
+	 * シンボルIDに対応するノードを返す. <br>
+	 * モデルのロック (読み取り用もしくは変更用) を取得した状態で呼ぶこと.
+	 * @param symbolId このシンボルIDを持つノードを探す
+	 * @return {@code symbolId} を持つノード. このワークスペースセットに存在しない場合 null.
+	 */
+	public BhNode findNode(SyntaxSymbolID symbolId) {
+		return symbolIdToNode.get(symbolId);
+	}
+
+	/**
+	 * シンボルIDに対応するノードのビューを返す. <br>
+	 * モデルのロック (読み取り用もしくは変更用) を取得した状態で UI スレッドから呼ぶこと.
+	 * @param symbolId このシンボルIDを持つノードのビューを探す
+	 * @return {@code symbolId} を持つノードのビュー. ノードが存在しないかビューを持たない場合 null.
+	 */
+	public BhNodeView findNodeView(SyntaxSymbolID symbolId) {
+
+		BhNode node = symbolIdToNode.get(symbolId);
+		if (node == null || node.getType().equals(BhNodeViewType.NO_VIEW))
+			return null;
+
+		return MsgService.INSTANCE.getBhNodeView(node);
 	}
 
 	/**
@@ -161,6 +217,24 @@ public class WorkspaceSet implements MsgReceptionWindow {
 		}
 	}
 
+	/**
+	 * 引数で指定したノードツリーのノードが, コピー予定もしくはカット予定のノードリストに含まれているか調べる.
+	 * @param root 調べるノードツリーのルート
+	 * @return {@code root} 以下のノードがコピー予定もしくはカット予定のノードリストに含まれている場合 true
+	 */
+	public boolean containsInPasteList(BhNode root) {
+
+		for (int i = 0; i < readyToCopy.size(); ++i)
+			if (readyToCopy.get(i).findRootNode() == root)
+				return true;
+
+		for (int i = 0; i < readyToCut.size(); ++i)
+			if (readyToCut.get(i).findRootNode() == root)
+				return true;
+
+		return false;
+	}
+
 	/**
 	 * カット予定のBhNodeリストを追加する
 	 * @param nodeList カット予定のBhNodeリスト
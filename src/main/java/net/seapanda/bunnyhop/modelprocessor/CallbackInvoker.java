@@ -17,7 +17,6 @@ package net.seapanda.bunnyhop.modelprocessor;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Consumer;
 
 import net.seapanda.bunnyhop.model.node.BhNode;
@@ -102,6 +101,8 @@ public class CallbackInvoker implements BhModelProcessor {
 		private Consumer<? super SyntaxSymbol> callBackForAllSymbols;
 		private boolean allNodes = false;
 		private boolean allSymbols = false;
+		private boolean byNodeId = false;	//!< ノードIDに対応するコールバック関数が登録されている場合 true
+		private boolean bySymbolName = false;	//!< シンボル名に対応するコールバック関数が登録されている場合 true
 
 		private CallbackRegistry() {}
 
@@ -110,6 +111,7 @@ public class CallbackInvoker implements BhModelProcessor {
 		 */
 		public CallbackRegistry set(String symbolName, Consumer<? super SyntaxSymbol> callback) {
 			symbolNameToCallback.put(symbolName, callback);
+			bySymbolName = true;
 			return this;
 		}
 
@@ -118,6 +120,7 @@ public class CallbackInvoker implements BhModelProcessor {
 		 */
 		public CallbackRegistry set(BhNodeID nodeID, Consumer<? super BhNode> callback) {
 			nodeIdToCallback.put(nodeID, callback);
+			byNodeId = true;
 			return this;
 		}
 
@@ -147,11 +150,17 @@ public class CallbackInvoker implements BhModelProcessor {
 			if (allSymbols)
 				callBackForAllSymbols.accept(node);
 
-			Optional.ofNullable(nodeIdToCallback.get(node.getID()))
-			.ifPresent(callback -> callback.accept(node));
-
-			Optional.ofNullable(symbolNameToCallback.get(node.getSymbolName()))
-			.ifPresent(callback -> callback.accept(node));
+			if (byNodeId) {
+				Consumer<? super BhNode> callback = nodeIdToCallback.get(node.getID());
+				if (callback != null)
+					callback.accept(node);
+			}
+
+			if (bySymbolName) {
+				Consumer<? super SyntaxSymbol> callback = symbolNameToCallback.get(node.getSymbolName());
+				if (callback != null)
+					callback.accept(node);
+			}
 		}
 
 		void call(SyntaxSymbol symbol) {
@@ -159,8 +168,11 @@ public class CallbackInvoker implements BhModelProcessor {
 			if (allSymbols)
 				callBackForAllSymbols.accept(symbol);
 
-			Optional.ofNullable(symbolNameToCallback.get(symbol.getSymbolName()))
-			.ifPresent(callback -> callback.accept(symbol));
+			if (bySymbolName) {
+				Consumer<? super SyntaxSymbol> callback = symbolNameToCallback.get(symbol.getSymbolName());
+				if (callback != null)
+					callback.accept(symbol);
+			}
 		}
 	}
 }
@@ -29,6 +29,7 @@ import net.seapanda.bunnyhop.model.node.imitation.ImitationID;
 import net.seapanda.bunnyhop.modelservice.BhNodeHandler;
 import net.seapanda.bunnyhop.modelservice.DeleteOperation;
 import net.seapanda.bunnyhop.undo.UserOperationCommand;
+import net.seapanda.bunnyhop.view.node.BhNodeViewArranger;
 
 /**
  * イミテーションノードの入れ替えを行うクラス
@@ -46,7 +47,14 @@ public class ImitationReplacer implements BhModelProcessor {
 	 * @param userOpeCmd undo用コマンドオブジェクト
 	 * */
 	public static void replace(BhNode newOriginal, BhNode oldOriginal, UserOperationCommand userOpeCmd) {
-		newOriginal.accept(new ImitationReplacer(oldOriginal, userOpeCmd));
+
+		BhNodeViewArranger.INSTANCE.beginBatch();
+		try {
+			newOriginal.accept(new ImitationReplacer(oldOriginal, userOpeCmd));
+		}
+		finally {
+			BhNodeViewArranger.INSTANCE.endBatch();
+		}
 	}
 
 	/**
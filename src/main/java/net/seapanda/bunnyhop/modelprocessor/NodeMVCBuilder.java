@@ -36,6 +36,7 @@ import net.seapanda.bunnyhop.model.node.connective.ConnectiveNode;
 import net.seapanda.bunnyhop.model.node.connective.Connector;
 import net.seapanda.bunnyhop.view.ViewInitializationException;
 import net.seapanda.bunnyhop.view.node.BhNodeView;
+import net.seapanda.bunnyhop.view.node.BhNodeViewPool;
 import net.seapanda.bunnyhop.view.node.ComboBoxNodeView;
 import net.seapanda.bunnyhop.view.node.ConnectiveNodeView;
 import net.seapanda.bunnyhop.view.node.LabelNodeView;
@@ -108,7 +109,8 @@ public class NodeMVCBuilder implements BhModelProcessor {
 		BhNodeViewStyle viewStyle = BhNodeViewStyle.getNodeViewStyleFromNodeID(node.getID());
 		ConnectiveNodeView connectiveNodeView = null;
 		try {
-			connectiveNodeView = new ConnectiveNodeView(node, viewStyle);
+			Optional<ConnectiveNodeView> reused = BhNodeViewPool.INSTANCE.reuse(node, ConnectiveNodeView.class);
+			connectiveNodeView = reused.isPresent() ? reused.get() : new ConnectiveNodeView(node, viewStyle);
 		}
 		catch (ViewInitializationException e) {
 			MsgPrinter.INSTANCE.errMsgForDebug(getClass().getSimpleName() + "\n" + e);
@@ -133,7 +135,8 @@ public class NodeMVCBuilder implements BhModelProcessor {
 	public void visit(VoidNode node) {
 
 		BhNodeViewStyle viewStyle = BhNodeViewStyle.getNodeViewStyleFromNodeID(node.getID());
-		VoidNodeView voidNodeView = new VoidNodeView(node, viewStyle);
+		Optional<VoidNodeView> reused = BhNodeViewPool.INSTANCE.reuse(node, VoidNodeView.class);
+		VoidNodeView voidNodeView = reused.isPresent() ? reused.get() : new VoidNodeView(node, viewStyle);
 		if (topNodeView == null)
 			topNodeView = voidNodeView;
 
@@ -176,27 +179,32 @@ public class NodeMVCBuilder implements BhModelProcessor {
 
 		switch (node.getType()) {
 			case TEXT_FIELD:
-				var textNodeView = new TextFieldNodeView(node, viewStyle);
+				var reusedTextField = BhNodeViewPool.INSTANCE.reuse(node, TextFieldNodeView.class);
+				var textNodeView = reusedTextField.isPresent() ? reusedTextField.get() : new TextFieldNodeView(node, viewStyle);
 				mvcConnector.connect(node, textNodeView);
 				return Optional.of(textNodeView);
 
 			case COMBO_BOX:
-				var comboBoxNodeView = new ComboBoxNodeView(node, viewStyle);
+				var reusedComboBox = BhNodeViewPool.INSTANCE.reuse(node, ComboBoxNodeView.class);
+				var comboBoxNodeView = reusedComboBox.isPresent() ? reusedComboBox.get() : new ComboBoxNodeView(node, viewStyle);
 				mvcConnector.connect(node, comboBoxNodeView);
 				return Optional.of(comboBoxNodeView);
 
 			case LABEL:
-				var labelNodeView = new LabelNodeView(node, viewStyle);
+				var reusedLabel = BhNodeViewPool.INSTANCE.reuse(node, LabelNodeView.class);
+				var labelNodeView = reusedLabel.isPresent() ? reusedLabel.get() : new LabelNodeView(node, viewStyle);
 				mvcConnector.connect(node, labelNodeView);
 				return Optional.of(labelNodeView);
 
 			case TEXT_AREA:
-				var textAreaNodeView = new TextAreaNodeView(node, viewStyle);
+				var reusedTextArea = BhNodeViewPool.INSTANCE.reuse(node, TextAreaNodeView.class);
+				var textAreaNodeView = reusedTextArea.isPresent() ? reusedTextArea.get() : new TextAreaNodeView(node, viewStyle);
 				mvcConnector.connect(node, textAreaNodeView);
 				return Optional.of(textAreaNodeView);
 
 			case NO_CONTENT:
-				var noContentNodeView = new NoContentNodeView(node, viewStyle);
+				var reusedNoContent = BhNodeViewPool.INSTANCE.reuse(node, NoContentNodeView.class);
+				var noContentNodeView = reusedNoContent.isPresent() ? reusedNoContent.get() : new NoContentNodeView(node, viewStyle);
 				mvcConnector.connect(node, noContentNodeView);
 				return Optional.of(noContentNodeView);
 
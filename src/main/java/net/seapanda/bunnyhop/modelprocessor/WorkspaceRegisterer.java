@@ -38,8 +38,7 @@ public class WorkspaceRegisterer implements BhModelProcessor {
 	 * @param userOpeCmd undo用コマンドオブジェクト
 	 * */
 	public static void register(BhNode node, Workspace ws, UserOperationCommand userOpeCmd) {
-		var registerer = new WorkspaceRegisterer(ws, userOpeCmd);
-		node.accept(registerer);
+		setWorkspace(node, ws, userOpeCmd);
 	}
 
 	/**
@@ -48,8 +47,42 @@ public class WorkspaceRegisterer implements BhModelProcessor {
 	 * @param userOpeCmd undo用コマンドオブジェクト
 	 * */
 	public static void deregister(BhNode node, UserOperationCommand userOpeCmd) {
-		var registerer = new WorkspaceRegisterer(null, userOpeCmd);
-		node.accept(registerer);
+		setWorkspace(node, null, userOpeCmd);
+	}
+
+	/**
+	 * 引数で指定したノード以下のノードにワークスペースをセットする. <br>
+	 * ツリーの全ノードに同じワークスペースがセットされていた場合, undo 用のサブ操作はノード毎ではなくツリーに対して 1 つだけ積む.
+	 * @param node これ以下のノードにワークスペースをセットする
+	 * @param ws セットするワークスペース
+	 * @param userOpeCmd undo用コマンドオブジェクト
+	 */
+	private static void setWorkspace(BhNode node, Workspace ws, UserOperationCommand userOpeCmd) {
+
+		Workspace oldWs = node.getWorkspace();
+		if (isInSameWorkspace(node, oldWs)) {
+			// ノード毎のサブ操作はツリー単位のサブ操作で代替するので捨てる
+			node.accept(new WorkspaceRegisterer(ws, new UserOperationCommand()));
+			userOpeCmd.pushCmdOfSetWorkspaceOfTree(oldWs, node);
+		}
+		else {
+			node.accept(new WorkspaceRegisterer(ws, userOpeCmd));
+		}
+	}
+
+	/**
+	 * 引数で指定したノード以下の全てのノードが ws に属しているか調べる
+	 * @param node このノード以下のノードを調べる
+	 * @param ws このワークスペースに属しているか調べる
+	 * @return node 以下の全てのノードが ws に属している場合 true
+	 */
+	private static boolean isInSameWorkspace(BhNode node, Workspace ws) {
+
+		boolean[] inSameWs = {true};
+		var registry = CallbackInvoker.newCallbackRegistry().setForAllNodes(
+			descendant -> inSameWs[0] &= (descendant.getWorkspace() == ws));
+		CallbackInvoker.invoke(registry, node);
+		return inSameWs[0];
 	}
 
 	/**
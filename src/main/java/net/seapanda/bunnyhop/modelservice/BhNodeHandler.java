@@ -38,6 +38,7 @@ import net.seapanda.bunnyhop.modelprocessor.NodeDeselector;
 import net.seapanda.bunnyhop.modelprocessor.PasteCanceler;
 import net.seapanda.bunnyhop.modelprocessor.WorkspaceRegisterer;
 import net.seapanda.bunnyhop.undo.UserOperationCommand;
+import net.seapanda.bunnyhop.view.node.BhNodeViewArranger;
 
 /**
  * BhNodeの追加, 移動, 入れ替え, 削除用関数を提供するクラス
@@ -104,19 +105,26 @@ public class BhNodeHandler {
 		if (nodesToDelete.isEmpty())
 			return new ArrayList<>();
 
-		Set<Imitatable> imitations = new HashSet<>();
-		nodesToDelete.forEach(node -> imitations.addAll(ImitationFinder.find(node)));
-		List<Pair<BhNode, BhNode>> oldAndNewNodeList = new ArrayList<>();
-		Set<DeleteOperation> allOperations = DeleteOperation.getSet();
-		for (BhNode node : nodesToDelete) {
-			if (isNodeToDelete(node)) {
-				Optional<BhNode> newNodeOpt = delete(node, allOperations, userOpeCmd);
-				newNodeOpt.ifPresent(newNode -> oldAndNewNodeList.add(new Pair<>(node, newNode)));
+		// 削除するノードが多数あっても, ノードビューの配置の更新は最後に 1 度だけ行う
+		BhNodeViewArranger.INSTANCE.beginBatch();
+		try {
+			Set<Imitatable> imitations = new HashSet<>();
+			nodesToDelete.forEach(node -> imitations.addAll(ImitationFinder.find(node)));
+			List<Pair<BhNode, BhNode>> oldAndNewNodeList = new ArrayList<>();
+			Set<DeleteOperation> allOperations = DeleteOperation.getSet();
+			for (BhNode node : nodesToDelete) {
+				if (isNodeToDelete(node)) {
+					Optional<BhNode> newNodeOpt = delete(node, allOperations, userOpeCmd);
+					newNodeOpt.ifPresent(newNode -> oldAndNewNodeList.add(new Pair<>(node, newNode)));
+				}
 			}
-		}
 
-		deleteImitations(imitations, userOpeCmd);
-		return oldAndNewNodeList;
+			deleteImitations(imitations, userOpeCmd);
+			return oldAndNewNodeList;
+		}
+		finally {
+			BhNodeViewArranger.INSTANCE.endBatch();
+		}
 	}
 
 	/**
@@ -31,6 +31,7 @@ import net.seapanda.bunnyhop.model.node.imitation.Imitatable;
 import net.seapanda.bunnyhop.modelprocessor.ImitationFinder;
 import net.seapanda.bunnyhop.modelprocessor.ImitationRemover;
 import net.seapanda.bunnyhop.undo.UserOperationCommand;
+import net.seapanda.bunnyhop.view.node.BhNodeViewArranger;
 
 /**
  * 遅延削除を実装するクラス
@@ -82,17 +83,26 @@ public class DelayedDeleter {
 	 */
 	public void deleteAll(UserOperationCommand userOpeCmd) {
 
-		Set<Imitatable> imitations = new HashSet<>();
-		candidateToOpeList.keySet().stream()
-		//ワークスペースにあるノードは削除をキャンセルされたものとみなす
-		.filter(candidate -> !candidate.isInWorkspace())
-		.forEach(candidate -> {
-			imitations.addAll(ImitationFinder.find(candidate));
-			candidateToOpeList.get(candidate).forEach(ope -> delete(candidate, ope, userOpeCmd));
-		});
-
-		candidateToOpeList.clear();
-		deleteImitations(imitations, userOpeCmd);
+		// 削除候補が多数あっても, ノードビューの配置の更新は最後に 1 度だけ行う
+		BhNodeViewArranger.INSTANCE.beginBatch();
+		try {
+			Set<Imitatable> imitations = new HashSet<>();
+			for (var candidateToOpes : candidateToOpeList.entrySet()) {
+				BhNode candidate = candidateToOpes.getKey();
+				//ワークスペースにあるノードは削除をキャンセルされたものとみなす
+				if (candidate.isInWorkspace())
+					continue;
+
+				imitations.addAll(ImitationFinder.find(candidate));
+				candidateToOpes.getValue().forEach(ope -> delete(candidate, ope, userOpeCmd));
+			}
+
+			candidateToOpeList.clear();
+			deleteImitations(imitations, userOpeCmd);
+		}
+		finally {
+			BhNodeViewArranger.INSTANCE.endBatch();
+		}
 	}
 
 	/** 未実行の削除処理を行う */
@@ -140,12 +150,22 @@ public class DelayedDeleter {
 	}
 
 	/**
-	 * 削除候補とその子孫ノードの中に引数で指定したノードが入っているか調べる
+	 * 削除候補とその子孫ノードの中に引数で指定したノードが入っているか調べる. <br>
+	 * 削除候補の数によらず, node とその先祖ノードだけを調べる.
 	 * @param node 調べるノード
 	 * @return 削除候補とその子孫ノードの中に引数で指定したノードが入っている場合 true
 	 */
 	public boolean containsInCandidateList(BhNode node) {
-		return candidateToOpeList.keySet().stream().anyMatch(candidate -> node.isDescendantOf(candidate));
+
+		if (candidateToOpeList.isEmpty())
+			return false;
+
+		while (node != null) {
+			if (candidateToOpeList.containsKey(node))
+				return true;
+			node = node.findParentNode();
+		}
+		return false;
 	}
 
 	/**
@@ -17,6 +17,7 @@ package net.seapanda.bunnyhop.quadtree;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import net.seapanda.bunnyhop.common.Vec2D;
@@ -36,6 +37,7 @@ public class QuadTreeManager {
 	private double cellHeight;	//!< 分割された空間の縦幅
 	private ArrayList<QuadTreeRectangle> quadTree;	//!< 4分木
 	private QuadTreeRectangle unknownSpaceListHead = new QuadTreeRectangle();	//!< 4分木空間上での位置が決まっていない 4分木オブジェクトのリストの先頭
+	private Consumer<QuadTreeRectangle> onRectPosUpdated = rect -> {};	//!< 登録されている矩形の位置が更新されたときに呼ぶ関数
 
 	/**
 	 * コンストラクタ
@@ -119,6 +121,14 @@ public class QuadTreeManager {
 			addQuadTreeObj(movedQuadTreeObj);
 	}
 
+	/**
+	 * 登録されている矩形の位置が更新されたときに呼ぶ関数をセットする
+	 * @param handler 登録されている矩形の位置が更新されたときに呼ぶ関数. 引数は位置が更新された矩形.
+	 * */
+	public void setOnRectPosUpdated(Consumer<QuadTreeRectangle> handler) {
+		onRectPosUpdated = handler;
+	}
+
 	/**
 	 * 4分木空間の大きさを取得する
 	 * @return 4分木空間の大きさ
@@ -164,6 +174,7 @@ public class QuadTreeManager {
 		quadTreeObj.remove();
 		quadTreeObj.setIdxInQuadTree(quadTreeIndex);
 		quadTree.get(quadTreeIndex).connectToNext(quadTreeObj);	//所属空間変更
+		onRectPosUpdated.accept(quadTreeObj);
 	}
 
 	/**
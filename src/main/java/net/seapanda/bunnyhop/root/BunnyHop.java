@@ -50,6 +50,7 @@ import net.seapanda.bunnyhop.model.workspace.WorkspaceSet;
 import net.seapanda.bunnyhop.undo.UserOperationCommand;
 import net.seapanda.bunnyhop.view.TrashboxService;
 import net.seapanda.bunnyhop.view.ViewInitializationException;
+import net.seapanda.bunnyhop.view.errorindication.RuntimeErrorIndicationService;
 import net.seapanda.bunnyhop.view.workspace.MultiNodeShifterView;
 import net.seapanda.bunnyhop.view.workspace.WorkspaceView;
 
@@ -74,6 +75,7 @@ public class BunnyHop {
 	public boolean createWindow(Stage stage) {
 
 		TrashboxService.INSTANCE.init(workspaceSet);
+		RuntimeErrorIndicationService.INSTANCE.setWorkspaceSet(workspaceSet);
 		nodeCategoryList = genNodeCategoryList().orElse(null);
 		if (nodeCategoryList == null)
 			return false;
@@ -15,10 +15,16 @@
  */
 package net.seapanda.bunnyhop.undo;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Deque;
+import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
 
 import net.seapanda.bunnyhop.common.constant.BhParams;
+import net.seapanda.bunnyhop.model.node.BhNode;
 
 /**
  * undo/redo時に UserOperationCommand クラスを操作するクラス
@@ -28,6 +34,7 @@ public class UserOpeCmdManager {
 
 	private final Deque<UserOperationCommand> undoStack = new LinkedList<>();	//Undo できるコマンドのスタック
 	private final Deque<UserOperationCommand> redoStack = new LinkedList<>();	//Redo できるコマンドのスタック
+	private final Set<BhNode> nodesOfDroppedCmds = new HashSet<>();	//!< undo/redo の対象から外れたコマンドが参照していたノード
 
 	/**
 	 * Undo の対象になるコマンドを追加する
@@ -37,9 +44,9 @@ public class UserOpeCmdManager {
 
 		undoStack.addLast(cmd);
 		if(undoStack.size() > BhParams.NUM_TIMES_MAX_UNDO)
-			undoStack.removeFirst();
+			nodesOfDroppedCmds.addAll(undoStack.removeFirst().getRelatedNodes());
 
-		redoStack.clear();
+		dropAll(redoStack);
 	}
 
 	public void undo() {
@@ -64,8 +71,80 @@ public class UserOpeCmdManager {
 	 * undo/redo対象の操作を全て消す
 	 * */
 	public void delete() {
-		undoStack.clear();
-		redoStack.clear();
+		dropAll(undoStack);
+		dropAll(redoStack);
+	}
+
+	/**
+	 * 引数で指定したスタックのコマンドを全て undo/redo の対象から外す
+	 * @param cmdStack コマンドを取り除くスタック
+	 */
+	private void dropAll(Deque<UserOperationCommand> cmdStack) {
+
+		for (UserOperationCommand cmd : cmdStack)
+			nodesOfDroppedCmds.addAll(cmd.getRelatedNodes());
+		cmdStack.clear();
+	}
+
+	/**
+	 * undo/redo の対象から外れたコマンドが参照していたノードのうち, 以後どこからも使われないノードツリーのルートを返す. <br>
+	 * ワークスペースに無く, undo/redo の対象として残っているコマンドからも参照されないノードツリーが対象となる.
+	 * 呼び出し後, 対象から外れたコマンドの記録は消去される.
+	 * @return 以後どこからも使われないノードツリーのルートのコレクション
+	 */
+	public Collection<BhNode> pollUnreferencedNodes() {
+
+		Set<BhNode> unreferencedRoots = new HashSet<>();
+		for (BhNode node : nodesOfDroppedCmds) {
+			BhNode root = node.findRootNode();
+			if (!root.isInWorkspace())
+				unreferencedRoots.add(root);
+		}
+		nodesOfDroppedCmds.clear();
+		if (unreferencedRoots.isEmpty())
+			return unreferencedRoots;
+
+		Set<BhNode> referencedRoots = new HashSet<>();
+		collectRelatedRoots(undoStack, referencedRoots);
+		collectRelatedRoots(redoStack, referencedRoots);
+		unreferencedRoots.removeAll(referencedRoots);
+		return unreferencedRoots;
+	}
+
+	/**
+	 * 引数で指定したスタックのコマンドが参照するノードツリーのルートを集める
+	 * @param cmdStack ノードを集めるコマンドのスタック
+	 * @param roots 集めたルートノードの格納先
+	 */
+	private void collectRelatedRoots(Deque<UserOperationCommand> cmdStack, Set<BhNode> roots) {
+
+		for (UserOperationCommand cmd : cmdStack)
+			for (BhNode node : cmd.getRelatedNodes())
+				roots.add(node.findRootNode());
+	}
+
+	/**
+	 * undo, redo の対象になっているコマンドのリストを返す
+	 * @return undo, redo の対象になっているコマンドのリスト (undo スタック, redo スタックの順に並ぶ)
+	 */
+	public List<UserOperationCommand> getCommands() {
+
+		var cmdList = new ArrayList<UserOperationCommand>(undoStack);
+		cmdList.addAll(redoStack);
+		return cmdList;
+	}
+
+	/**
+	 * undo, redo の対象になっているコマンドとサブ操作の数を説明する文字列を作成する
+	 * @return undo, redo の対象になっているコマンドとサブ操作の数を説明する文字列
+	 */
+	public String genStatistics() {
+
+		int numUndoSubOpe = undoStack.stream().mapToInt(UserOperationCommand::getNumSubOpe).sum();
+		int numRedoSubOpe = redoStack.stream().mapToInt(UserOperationCommand::getNumSubOpe).sum();
+		return String.format(
+			"undo: %d commands (%d sub operations), redo: %d commands (%d sub operations)",
+			undoStack.size(), numUndoSubOpe, redoStack.size(), numRedoSubOpe);
 	}
 }
 
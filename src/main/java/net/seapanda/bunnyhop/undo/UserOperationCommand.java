@@ -19,7 +19,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Deque;
+import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.Set;
 
 import javafx.scene.Parent;
 import net.seapanda.bunnyhop.common.Vec2D;
@@ -33,6 +35,7 @@ import net.seapanda.bunnyhop.model.node.connective.Connector;
 import net.seapanda.bunnyhop.model.node.imitation.ImitationBase;
 import net.seapanda.bunnyhop.model.workspace.Workspace;
 import net.seapanda.bunnyhop.model.workspace.WorkspaceSet;
+import net.seapanda.bunnyhop.modelprocessor.WorkspaceRegisterer;
 import net.seapanda.bunnyhop.view.node.BhNodeView;
 import net.seapanda.bunnyhop.view.workspace.WorkspaceView;
 
@@ -45,6 +48,7 @@ public class UserOperationCommand {
 	public UserOperationCommand(){}
 
 	private Deque<SubOperation> subOpeList = new LinkedList<>();	//!< このオブジェクトが表す操作を構成するサブ操作のリスト
+	private final Set<BhNode> relatedNodes = new HashSet<>();	//!< サブ操作が参照するノードのセット
 
 	/**
 	 * このコマンドの逆の操作を行う (例えば, ノード追加ならノード削除を行う)
@@ -67,6 +71,14 @@ public class UserOperationCommand {
 		return subOpeList.size();
 	}
 
+	/**
+	 * サブ操作が参照するノードを返す
+	 * @return サブ操作が参照するノードのセット
+	 */
+	Set<BhNode> getRelatedNodes() {
+		return relatedNodes;
+	}
+
 	//for debug
 	public void printSubOpeList() {
 		for (SubOperation subope : subOpeList) {
@@ -82,6 +94,8 @@ public class UserOperationCommand {
 	 */
 	public <T extends ImitationBase<T>> void pushCmdOfAddImitation(T imit, T org) {
 		subOpeList.addLast(new AddImitationCmd<T>(imit, org));
+		relatedNodes.add(imit);
+		relatedNodes.add(org);
 	}
 
 	/**
@@ -91,6 +105,8 @@ public class UserOperationCommand {
 	 */
 	public <T extends ImitationBase<T>> void pushCmdOfRemoveImitation(T imit, T org) {
 		subOpeList.addLast(new RemoveImitationCmd<T>(imit, org));
+		relatedNodes.add(imit);
+		relatedNodes.add(org);
 	}
 
 	/**
@@ -100,6 +116,8 @@ public class UserOperationCommand {
 	 */
 	public <T extends ImitationBase<T>> void pushCmdOfSetOriginal(T imit, T oldOrg) {
 		subOpeList.addLast(new SetOriginalCmd<T>(imit, oldOrg));
+		relatedNodes.add(imit);
+		addRelatedNode(oldOrg);
 	}
 
 	/**
@@ -108,6 +126,7 @@ public class UserOperationCommand {
 	 */
 	public void pushCmdOfAddRootNode(BhNode node) {
 		subOpeList.addLast(new AddRootNodeCmd(node));
+		relatedNodes.add(node);
 	}
 
 	/**
@@ -117,6 +136,7 @@ public class UserOperationCommand {
 	 */
 	public void pushCmdOfRemoveRootNode(BhNode node, Workspace ws) {
 		subOpeList.addLast(new RemoveRootNodeCmd(node, ws));
+		relatedNodes.add(node);
 	}
 
 	/**
@@ -127,6 +147,7 @@ public class UserOperationCommand {
 	 */
 	public void pushCmdOfSetPosOnWorkspace(double x, double y, BhNode node) {
 		subOpeList.addLast(new SetPosOnWorkspaceCmd(x, y, node));
+		relatedNodes.add(node);
 	}
 
 	/**
@@ -136,6 +157,7 @@ public class UserOperationCommand {
 	 */
 	public void pushCmdOfAddQtRectangle(BhNode node, Workspace ws) {
 		subOpeList.addLast(new AddQtRectangleCmd(node, ws));
+		relatedNodes.add(node);
 	}
 
 	/**
@@ -145,6 +167,7 @@ public class UserOperationCommand {
 	 */
 	public void pushCmdOfRemoveQtRectangle(BhNode node, Workspace ws) {
 		subOpeList.addLast(new RemoveQtRectangleCmd(node, ws));
+		relatedNodes.add(node);
 	}
 
 	/**
@@ -155,6 +178,8 @@ public class UserOperationCommand {
 	 */
 	public void pushCmdOfReplaceNodeView(BhNode oldNode, BhNode newNode, boolean newNodeHasParent) {
 		subOpeList.addLast(new ReplaceNodeViewCmd(oldNode, newNode, newNodeHasParent));
+		relatedNodes.add(oldNode);
+		relatedNodes.add(newNode);
 	}
 
 	/**
@@ -164,6 +189,8 @@ public class UserOperationCommand {
 	 */
 	public void pushCmdOfConnectNode(BhNode oldNode, Connector connector) {
 		subOpeList.addLast(new ConnectNodeCmd(oldNode, connector));
+		relatedNodes.add(oldNode);
+		addRelatedNode(connector.getParentNode());
 	}
 
 	/**
@@ -173,6 +200,8 @@ public class UserOperationCommand {
 	 */
 	public void pushCmdOfSetLastReplaced(BhNode oldNode, BhNode nodeRegisteredWith) {
 		subOpeList.addLast(new SetLastReplacedCmd(oldNode, nodeRegisteredWith));
+		addRelatedNode(oldNode);
+		relatedNodes.add(nodeRegisteredWith);
 	}
 
 	/**
@@ -182,6 +211,17 @@ public class UserOperationCommand {
 	 */
 	public void pushCmdOfSetWorkspace(Workspace oldWS, BhNode node) {
 		subOpeList.addLast(new SetWorkspaceCmd(oldWS, node));
+		relatedNodes.add(node);
+	}
+
+	/**
+	 * ノードツリー全体へのワークスペースの登録をコマンド化してサブ操作リストに加える
+	 * @param oldWS ツリーの全ノードに元々セットされていたワークスペース
+	 * @param root ワークスペースのセットを行ったノードツリーのルート
+	 */
+	public void pushCmdOfSetWorkspaceOfTree(Workspace oldWS, BhNode root) {
+		subOpeList.addLast(new SetWorkspaceOfTreeCmd(oldWS, root));
+		relatedNodes.add(root);
 	}
 
 	/**
@@ -191,6 +231,7 @@ public class UserOperationCommand {
 	 */
 	public void pushCmdOfAddSelectedNode(Workspace ws, BhNode node) {
 		subOpeList.addLast(new AddSelectedNodeCmd(ws, node));
+		relatedNodes.add(node);
 	}
 
 	/**
@@ -200,6 +241,7 @@ public class UserOperationCommand {
 	 */
 	public void pushCmdOfRemoveSelectedNode(Workspace ws, BhNode node) {
 		subOpeList.addLast(new RemoveSelectedNodeCmd(ws, node));
+		relatedNodes.add(node);
 	}
 
 	/**
@@ -229,6 +271,7 @@ public class UserOperationCommand {
 	 * */
 	public void pushCmdOfSetVisible(BhNodeView nodeView, boolean visible) {
 		subOpeList.addLast(new SetVisibleCmd(nodeView, visible));
+		addRelatedNode(nodeView.getModel());
 	}
 
 	/**
@@ -239,6 +282,7 @@ public class UserOperationCommand {
 	 * */
 	public void pushCmdOfSetSyntaxError(BhNodeView nodeView, boolean setVal, boolean prevVal) {
 		subOpeList.addLast(new SetSyntaxErrorCmd(nodeView, setVal, prevVal));
+		addRelatedNode(nodeView.getModel());
 	}
 
 	/**
@@ -248,6 +292,7 @@ public class UserOperationCommand {
 	 * */
 	public <T> void pushCmdOfAddToList(Collection<T> list, Collection<T> addedElems) {
 		subOpeList.addLast(new AddToListCmd<T>(list, addedElems));
+		addRelatedNodes(addedElems);
 	}
 
 	/**
@@ -257,6 +302,7 @@ public class UserOperationCommand {
 	 * */
 	public <T> void pushCmdOfAddToList(Collection<T> list, T addedElems) {
 		subOpeList.addLast(new AddToListCmd<T>(list, addedElems));
+		addRelatedNode(addedElems);
 	}
 
 	/**
@@ -266,6 +312,7 @@ public class UserOperationCommand {
 	 * */
 	public <T> void pushCmdOfRemoveFromList(Collection<T> list, Collection<T> removedElems) {
 		subOpeList.addLast(new RemoveFromListCmd<T>(list, removedElems));
+		addRelatedNodes(removedElems);
 	}
 
 	/**
@@ -275,6 +322,7 @@ public class UserOperationCommand {
 	 * */
 	public <T> void pushCmdOfRemoveFromList(Collection<T> list, T removedElem) {
 		subOpeList.addLast(new RemoveFromListCmd<T>(list, removedElem));
+		addRelatedNode(removedElem);
 	}
 
 	/**
@@ -283,6 +331,7 @@ public class UserOperationCommand {
 	 * */
 	public void pushCmdOfAddToGUITree(BhNodeView view) {
 		subOpeList.addLast(new AddToGUITreeCmd(view));
+		addRelatedNode(view.getModel());
 	}
 
 	/**
@@ -292,6 +341,27 @@ public class UserOperationCommand {
 	 * */
 	public void pushCmdOfRemoveFromGUITree(BhNodeView view, Parent parent) {
 		subOpeList.addLast(new RemoveFromGUITreeCmd(view, parent));
+		addRelatedNode(view.getModel());
+	}
+
+	/**
+	 * 引数で指定したオブジェクトが BhNode であれば, サブ操作が参照するノードとして登録する
+	 * @param obj 登録するオブジェクト (null 可)
+	 */
+	private void addRelatedNode(Object obj) {
+
+		if (obj instanceof BhNode)
+			relatedNodes.add((BhNode)obj);
+	}
+
+	/**
+	 * 引数で指定したコレクションに含まれる BhNode を, サブ操作が参照するノードとして登録する
+	 * @param elems 登録する要素を含むコレクション
+	 */
+	private void addRelatedNodes(Collection<?> elems) {
+
+		for (Object elem : elems)
+			addRelatedNode(elem);
 	}
 
 	/**
@@ -548,6 +618,25 @@ public class UserOperationCommand {
 		}
 	}
 
+	/**
+	 * ノードツリー全体に対してワークスペースの登録を行う操作を表すコマンド
+	 */
+	private static class SetWorkspaceOfTreeCmd implements SubOperation {
+
+		private final BhNode root;	//!< WSを登録したノードツリーのルート
+		private final Workspace oldWS;	//!< WS登録前にツリーの全ノードに登録されていたWS
+
+		public SetWorkspaceOfTreeCmd(Workspace oldWS, BhNode root) {
+			this.root = root;
+			this.oldWS = oldWS;
+		}
+
+		@Override
+		public void doInverseOperation(UserOperationCommand inverseCmd) {
+			WorkspaceRegisterer.register(root, oldWS, inverseCmd);
+		}
+	}
+
 	/**
 	 * 選択ノードリストへの BhNode の追加を表すコマンド
 	 */
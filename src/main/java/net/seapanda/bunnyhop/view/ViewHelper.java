@@ -16,6 +16,9 @@
 package net.seapanda.bunnyhop.view;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
 
@@ -40,6 +43,14 @@ public class ViewHelper {
 
 	public static final ViewHelper INSTANCE = new ViewHelper();		//!< シングルトンインスタンス
 	public final Set<BhNodeView> shadowNodes = Collections.newSetFromMap(new WeakHashMap<BhNodeView, Boolean>());	//!< 影付きノードリスト
+	/** 文字列の表示サイズのキャッシュ. 保持数が上限を超えると, 最も長く使われていないものから捨てる. */
+	private final Map<TextSizeKey, Vec2D> textSizeCache = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<TextSizeKey, Vec2D> eldest) {
+			return size() > BhParams.LnF.MAX_NUM_CACHED_TEXT_SIZES;
+		}
+	};
 
 	/**
 	 * 移動後のフィールド上の位置を算出する
@@ -130,7 +141,8 @@ public class ViewHelper {
 	}
 
 	/**
-	 * 文字列を表示したときのサイズを計算する
+	 * 文字列を表示したときのサイズを計算する. <br>
+	 * 計算結果は文字列, フォント, 境界算出方法, 行間の組ごとにキャッシュする.
 	 * @param str サイズを計算する文字列
 	 * @param font フォント
 	 * @param boundType 境界算出方法
@@ -138,11 +150,22 @@ public class ViewHelper {
 	 */
 	public Vec2D calcStrBounds(String str, Font font, TextBoundsType boundType, double lineSpacing) {
 
-		Text text = new Text(str);
-		text.setFont(font);
-		text.setBoundsType(boundType);
-		text.setLineSpacing(lineSpacing);
-		return new Vec2D(text.getBoundsInLocal().getWidth(), text.getBoundsInLocal().getHeight());
+		var key = new TextSizeKey(str, font, boundType, lineSpacing);
+		Vec2D size;
+		synchronized (textSizeCache) {
+			size = textSizeCache.get(key);
+		}
+		if (size == null) {
+			Text text = new Text(str);
+			text.setFont(font);
+			text.setBoundsType(boundType);
+			text.setLineSpacing(lineSpacing);
+			size = new Vec2D(text.getBoundsInLocal().getWidth(), text.getBoundsInLocal().getHeight());
+			synchronized (textSizeCache) {
+				textSizeCache.put(key, size);
+			}
+		}
+		return new Vec2D(size.x, size.y);
 	}
 
 	/**
@@ -152,9 +175,7 @@ public class ViewHelper {
 	 * @return 文字列を表示したときの幅
 	 */
 	public double calcStrWidth(String str, Font font) {
-        Text text = new Text(str);
-        text.setFont(font);
-		return text.getBoundsInLocal().getWidth();
+		return calcStrBounds(str, font, TextBoundsType.LOGICAL, 0.0).x;
 	}
 
 	/**
@@ -192,6 +213,45 @@ public class ViewHelper {
 				return false;
 			});
 	}
+
+	/**
+	 * 文字列の表示サイズのキャッシュのキー
+	 */
+	private static class TextSizeKey {
+
+		private final String str;
+		private final Font font;
+		private final TextBoundsType boundType;
+		private final double lineSpacing;
+
+		TextSizeKey(String str, Font font, TextBoundsType boundType, double lineSpacing) {
+			this.str = str;
+			this.font = font;
+			this.boundType = boundType;
+			this.lineSpacing = lineSpacing;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj)
+				return true;
+
+			if (!(obj instanceof TextSizeKey))
+				return false;
+
+			TextSizeKey key = (TextSizeKey)obj;
+			return Objects.equals(str, key.str)
+				&& Objects.equals(font, key.font)
+				&& boundType == key.boundType
+				&& Double.compare(lineSpacing, key.lineSpacing) == 0;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(str, font, boundType, lineSpacing);
+		}
+	}
 }
 
 
@@ -15,12 +15,16 @@
  */
 package net.seapanda.bunnyhop.view.bodyshape;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import net.seapanda.bunnyhop.common.constant.BhParams;
 import net.seapanda.bunnyhop.view.connectorshape.ConnectorShape;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle.CNCTR_POS;
@@ -28,6 +32,15 @@ import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle.NOTCH_POS;
 
 public abstract class BodyShape {
 
+	/** 頂点の生成に使ったパラメータと生成した頂点リストのキャッシュ. 保持数が上限を超えると, 最も長く使われていないものから捨てる. */
+	private final Map<List<Object>, List<Double>> paramsToVertices = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<Object>, List<Double>> eldest) {
+			return size() > BhParams.LnF.MAX_NUM_CACHED_NODE_SHAPES;
+		}
+	};
+
 	/**
 	 * ボディの形の識別子を定義した列挙型
 	 * */
@@ -85,6 +98,53 @@ public abstract class BodyShape {
 		double notchWidth,
 		double notchHeight);
 
+	/**
+	 * ノードを形作る頂点リストを取得する. <br>
+	 * 同じパラメータで作成した頂点リストは, 全てのノードビューで共有する.
+	 * @param bodyWidth ボディの幅
+	 * @param bodyHeight ボディの高さ
+	 * @param connector 描画するコネクタ
+	 * @param cnctrPos コネクタの位置 (Left, Top)
+	 * @param cnctrWidth コネクタの幅
+	 * @param cnctrHeight コネクタの高さ
+	 * @param cnctrShift ノードの左上からのコネクタの位置
+	 * @param notch 描画する切り欠き
+	 * @param notchPos 切り欠きの位置 (Right, Bottom)
+	 * @param notchWidth 切り欠きの幅
+	 * @param notchHeigth 切り欠きの高さ
+	 * @return ノードを形成する頂点のリスト (変更不可)
+	 * */
+	public List<Double> getVertices(
+		double bodyWidth,
+		double bodyHeight,
+		ConnectorShape connector,
+		BhNodeViewStyle.CNCTR_POS cnctrPos,
+		double cnctrWidth,
+		double cnctrHeight,
+		double cnctrShift,
+		ConnectorShape notch,
+		BhNodeViewStyle.NOTCH_POS notchPos,
+		double notchWidth,
+		double notchHeight) {
+
+		List<Object> params = Arrays.asList(
+			bodyWidth, bodyHeight,
+			connector, cnctrPos, cnctrWidth, cnctrHeight, cnctrShift,
+			notch, notchPos, notchWidth, notchHeight);
+
+		synchronized (paramsToVertices) {
+			List<Double> vertices = paramsToVertices.get(params);
+			if (vertices == null) {
+				vertices = Collections.unmodifiableList(new ArrayList<>(createVertices(
+					bodyWidth, bodyHeight,
+					connector, cnctrPos, cnctrWidth, cnctrHeight, cnctrShift,
+					notch, notchPos, notchWidth, notchHeight)));
+				paramsToVertices.put(params, vertices);
+			}
+			return vertices;
+		}
+	}
+
 	/**
 	 * コネクタ部分の頂点を作成する
 	 * @param connector 描画するコネクタオブジェクト
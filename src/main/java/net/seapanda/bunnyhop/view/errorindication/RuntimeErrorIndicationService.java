@@ -16,13 +16,12 @@
 package net.seapanda.bunnyhop.view.errorindication;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
+import net.seapanda.bunnyhop.bhprogram.common.BhNodeInstanceID;
 import net.seapanda.bunnyhop.bhprogram.common.BhProgramException;
 import net.seapanda.bunnyhop.model.syntaxsynbol.SyntaxSymbolID;
+import net.seapanda.bunnyhop.model.workspace.WorkspaceSet;
 import net.seapanda.bunnyhop.view.node.BhNodeView;
 
 /**
@@ -32,7 +31,7 @@ import net.seapanda.bunnyhop.view.node.BhNodeView;
 public class RuntimeErrorIndicationService {
 
 	public static final RuntimeErrorIndicationService INSTANCE = new RuntimeErrorIndicationService();
-	Map<SyntaxSymbolID, BhNodeView> nodeIdToNodeView;	//!< シンボルIDとエラーの表示対象となるノードビューのマップ
+	private WorkspaceSet wss;	//!< エラーの表示対象となるノードビューを探すワークスペースセット
 	private List<RuntimeErrorIndicator> indicatorList = new ArrayList<>();
 
 
@@ -68,14 +67,25 @@ public class RuntimeErrorIndicationService {
 	}
 
 	/**
-	 * エラーの表示対象となる全ノードビューを登録する
-	 * @param nodeViewList ノードIDとエラーの表示対象となるノードビューのマップ
+	 * エラーの表示対象となるノードビューを探すワークスペースセットを登録する
+	 * @param wss エラーの表示対象となるノードビューを探すワークスペースセット
 	 */
-	public synchronized void setNodeViewsForErrorIndication(Collection<BhNodeView> nodeViewList) {
+	public synchronized void setWorkspaceSet(WorkspaceSet wss) {
+		this.wss = wss;
+	}
+
+	/**
+	 * コールスタックの要素に対応するエラーの表示対象となるノードビューを探す. <br>
+	 * ワークスペースセットのノードのインデックスを引くだけで, ノードツリーは辿らない.
+	 * @param instanceId BhProgram の例外のコールスタックの要素
+	 * @return {@code instanceId} に対応するノードビュー. 見つからない場合 null.
+	 */
+	synchronized BhNodeView findNodeView(BhNodeInstanceID instanceId) {
+
+		if (wss == null)
+			return null;
 
-		var nodeIdToNodeView = new HashMap<SyntaxSymbolID, BhNodeView>();
-		nodeViewList.forEach(view -> nodeIdToNodeView.put(view.getModel().getSymbolID(), view));
-		this.nodeIdToNodeView = nodeIdToNodeView;
+		return SyntaxSymbolID.parse(instanceId.toString()).map(wss::findNodeView).orElse(null);
 	}
 }
 
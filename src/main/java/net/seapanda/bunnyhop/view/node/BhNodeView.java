@@ -28,27 +28,48 @@ import javafx.application.Platform;
 import javafx.css.PseudoClass;
 import javafx.event.Event;
 import javafx.event.EventHandler;
+import javafx.geometry.Bounds;
+import javafx.geometry.Insets;
+import javafx.geometry.Point2D;
+import javafx.geometry.VPos;
 import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.Parent;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Control;
+import javafx.scene.control.Labeled;
+import javafx.scene.control.TextInputControl;
 import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.Border;
+import javafx.scene.layout.BorderStroke;
 import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
 import javafx.scene.shape.Line;
 import javafx.scene.shape.Polygon;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
 import net.seapanda.bunnyhop.common.Pair;
 import net.seapanda.bunnyhop.common.Showable;
 import net.seapanda.bunnyhop.common.Vec2D;
 import net.seapanda.bunnyhop.common.constant.BhParams;
 import net.seapanda.bunnyhop.model.node.BhNode;
+import net.seapanda.bunnyhop.model.node.imitation.ImitationBase;
 import net.seapanda.bunnyhop.quadtree.QuadTreeManager;
 import net.seapanda.bunnyhop.quadtree.QuadTreeRectangle;
 import net.seapanda.bunnyhop.quadtree.QuadTreeRectangle.OVERLAP_OPTION;
 import net.seapanda.bunnyhop.view.ViewHelper;
+import net.seapanda.bunnyhop.view.ViewInitializationException;
 import net.seapanda.bunnyhop.view.bodyshape.BodyShape.BODY_SHAPE;
 import net.seapanda.bunnyhop.view.connectorshape.ConnectorShape;
 import net.seapanda.bunnyhop.view.connectorshape.ConnectorShape.CNCTR_SHAPE;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle.CNCTR_POS;
+import net.seapanda.bunnyhop.view.node.part.ImitationCreationButton;
+import net.seapanda.bunnyhop.view.node.part.PrivateTemplateCreationButton;
 import net.seapanda.bunnyhop.viewprocessor.CallbackInvoker;
 import net.seapanda.bunnyhop.viewprocessor.NodeViewComponent;
 import net.seapanda.bunnyhop.viewprocessor.TravelUpCallbackInvoker;
@@ -73,9 +94,10 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 	protected final Polygon shadowShape = new Polygon();	//!< 影描画用ポリゴン
 	protected final SyntaxErrorMark syntaxErrorMark = this.new SyntaxErrorMark(0.0, 0.0, 0.0, 0.0);	//!< 構文エラーノードであることを示す印
 	protected final BhNodeViewStyle viewStyle;	//!< ノードの見た目のパラメータオブジェクト
-	private final BhNode model;
+	private BhNode model;
 	/** このノードビューを保持する親グループ.  このノードビューがルートノードビューの場合は null. */
 	protected BhNodeViewGroup parent;
+	private final List<Node> modelBoundButtons = new ArrayList<>();	//!< モデルに対する操作を行うボタン (イミテーション作成ボタンなど)
 
 	private final ViewRegionManager viewRegionManager = this.new ViewRegionManager();
 	private final ViewTreeManager viewTreeManager = this.new ViewTreeManager();
@@ -171,23 +193,65 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 	 * ノードのサイズが変わったことを伝える.
 	 *
 	 * <p>ノードのサイズが変わったときにサブクラスから呼ぶこと.
+	 * <p>再配置はすぐには行わず, バッチ処理の終了時か次のパルスのレイアウト処理の直後にまとめて行う.
 	 */
 	public void notifySizeChange() {
+		BhNodeViewArranger.INSTANCE.arrangeLater(this);
+	}
+
+	/**
+	 * モデルに応じて, イミテーション作成ボタンとプライベートテンプレート作成ボタンをこのノードビューに加える.
+	 * @param model このノードビューに対応するノード
+	 * @throws ViewInitializationException ボタンの作成に失敗
+	 */
+	protected void addButtons(ImitationBase<?> model) throws ViewInitializationException {
+
+		if (model.canCreateImitManually()) {
+			var imitButtonOpt = ImitationCreationButton.create(model, viewStyle.imitation);
+			var imitButton = imitButtonOpt.orElseThrow(() -> new ViewInitializationException(
+				getClass().getSimpleName() + "  failed To load the Imitation Creation Button of this view."));
+			modelBoundButtons.add(imitButton);
+			viewTreeManager.addChild(imitButton);
+		}
+
+		if (model.hasPrivateTemplateNodes()) {
+			var privateTemplateBtnOpt = PrivateTemplateCreationButton.create(model, viewStyle.privatTemplate);
+			var privateTemplateBtn = privateTemplateBtnOpt.orElseThrow(() -> new ViewInitializationException(
+				getClass().getSimpleName() + "  failed To load the Private Template Button of this view."));
+			modelBoundButtons.add(privateTemplateBtn);
+			viewTreeManager.addChild(privateTemplateBtn);
+		}
+	}
 
-		TravelUpCallbackInvoker.invoke(
-			nodeView -> nodeView.arrangeAndResize(),
-			group -> group.arrangeAndResize(),
-			this,
-			false);
-
-		BhNodeView root = getTreeManager().getRootView();
-		Vec2D pos = root.getPositionManager().getPosOnWorkspace();	//workspace からの相対位置を計算
-		root.getPositionManager().setPosOnWorkspace(pos.x, pos.y);
-		root.getTreeManager().updateEvenFlg();
-		CallbackInvoker.invoke(
-			nodeView -> nodeView.getEventManager().invokeOnNodeSizesInTreeChanged(),
-			root,
-			false);
+	/**
+	 * このノードビューを, モデルと結びつく前の状態に戻す. <br>
+	 * {@link BhNodeViewPool} がノードビューをプールに入れる前に呼ぶ.
+	 * 子ノードビューとの親子関係は, 子ノードビューを持つサブクラスで解消する.
+	 */
+	void resetForReuse() {
+
+		viewTreeManager.removeFromParent(this);
+		viewTreeManager.isEven = true;
+		QuadTreeManager.removeQuadTreeObj(viewRegionManager.connectorPartRange);
+		QuadTreeManager.removeQuadTreeObj(viewRegionManager.wholeBodyRange);
+		getChildren().removeAll(modelBoundButtons);
+		modelBoundButtons.clear();
+		parent = null;
+		model = null;
+		positionManager.reset();
+		appearanceManager.reset();
+		eventHandlerManager.reset();
+		setMouseTransparent(false);
+		setVisible(true);
+	}
+
+	/**
+	 * {@link #resetForReuse} で初期状態に戻したこのノードビューを, 引数で指定したノードのビューにする.
+	 * @param model このノードビューに対応させるノード. 元のモデルと同じノードIDを持つこと.
+	 * @throws ViewInitializationException ノードビューの初期化に失敗
+	 */
+	void reinit(BhNode model) throws ViewInitializationException {
+		this.model = model;
 	}
 
 	/**
@@ -198,6 +262,9 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 		private final ConnectorShape notch;	//!< 切り欠き部分の形を表すオブジェクト
 		private BODY_SHAPE bodyShape;
 		private boolean isShadowRoot = false;	//!< 影が描画されるノードビュー群のルートノードである場合 true
+		private List<Double> vertices;	//!< 現在描画しているポリゴンの頂点リスト
+		private double[] xPoints;	//!< キャンバスに描画する際のポリゴンの頂点の X 座標. 頂点が変わると null になる.
+		private double[] yPoints;	//!< キャンバスに描画する際のポリゴンの頂点の Y 座標. 頂点が変わると null になる.
 
 		/**
 		 * コンストラクタ
@@ -244,20 +311,27 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 		protected void updatePolygonShape() {
 
 			Vec2D bodySize = getRegionManager().getBodySize(false);
-			nodeShape.getPoints().setAll(
-				bodyShape.SHAPE.createVertices(
-					bodySize.x,
-					bodySize.y,
-					viewStyle.connectorShape.SHAPE,
-					viewStyle.connectorPos,
-					viewStyle.connectorWidth,
-					viewStyle.connectorHeight,
-					viewStyle.connectorShift,
-					notch,
-					viewStyle.notchPos,
-					viewStyle.notchWidth,
-					viewStyle.notchHeight));
-			shadowShape.getPoints().setAll(nodeShape.getPoints());
+			List<Double> newVertices = bodyShape.SHAPE.getVertices(
+				bodySize.x,
+				bodySize.y,
+				viewStyle.connectorShape.SHAPE,
+				viewStyle.connectorPos,
+				viewStyle.connectorWidth,
+				viewStyle.connectorHeight,
+				viewStyle.connectorShift,
+				notch,
+				viewStyle.notchPos,
+				viewStyle.notchWidth,
+				viewStyle.notchHeight);
+
+			// 形が変わらない場合はポリゴンを更新しない
+			if (newVertices != vertices) {
+				vertices = newVertices;
+				xPoints = null;
+				yPoints = null;
+				nodeShape.getPoints().setAll(vertices);
+				shadowShape.getPoints().setAll(vertices);
+			}
 			syntaxErrorMark.setEndX(bodySize.x);
 			syntaxErrorMark.setEndY(bodySize.y);
 		}
@@ -266,23 +340,11 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 		 * このノードビュー以下のノードビューを適切な位置に配置してサイズを変更する.
 		 *
 		 * <p> 4分木空間上の位置も更新する.
+		 * <p> バッチ処理中は, バッチ処理の終了時に再配置する.
 		 * @param child 形状が変わった子ノードを含むグループ. このノード自体の形状が変わった場合 null を指定する.
 		 */
 		public void arrangeAndResize() {
-
-			CallbackInvoker.invoke(
-				nodeView -> nodeView.arrangeAndResize(),
-				group -> group.arrangeAndResize(),
-				BhNodeView.this,
-				true);
-			BhNodeView root = getTreeManager().getRootView();
-			Vec2D pos = root.getPositionManager().getPosOnWorkspace();	//workspace からの相対位置を計算
-			root.getPositionManager().setPosOnWorkspace(pos.x, pos.y);
-			root.getTreeManager().updateEvenFlg();
-			CallbackInvoker.invoke(
-				nodeView -> nodeView.getEventManager().invokeOnNodeSizesInTreeChanged(),
-				root,
-				false);
+			BhNodeViewArranger.INSTANCE.arrange(BhNodeView.this, true);
 		}
 
 		/**
@@ -292,6 +354,223 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 			CallbackInvoker.invoke(view -> view.nodeShape.setVisible(visible), BhNodeView.this, false);
 		}
 
+		/**
+		 * ノードの詳細部分 (テキストやコントロール) の表示/非表示を切り替える. <br>
+		 * 非表示の間はポリゴンだけを描画する. 子ノードの表示は変えない.
+		 * @param show 詳細部分を表示する場合 true
+		 */
+		public void showDetail(boolean show) {
+
+			for (Node child : BhNodeView.this.getChildren()) {
+				if (child != nodeShape)
+					child.setVisible(show);
+			}
+			switchPseudoClassActivation(!show, BhParams.CSS.PSEUDO_LOW_DETAIL);
+		}
+
+		/**
+		 * このノードのポリゴンを, 現在の塗りと線でキャンバスに描画する. 子ノードは描画しない.
+		 * @param gc 描画先のグラフィックスコンテキスト. ワークスペース上の座標で描画できるように変換を設定しておくこと.
+		 */
+		public void drawShape(GraphicsContext gc) {
+
+			if (vertices == null || !nodeShape.isVisible())
+				return;
+
+			Vec2D pos = getPositionManager().getPosOnWorkspace();
+			if (xPoints == null) {
+				int numPoints = vertices.size() / 2;
+				xPoints = new double[numPoints];
+				yPoints = new double[numPoints];
+				for (int i = 0; i < numPoints; ++i) {
+					xPoints[i] = vertices.get(i * 2);
+					yPoints[i] = vertices.get(i * 2 + 1);
+				}
+			}
+
+			gc.save();
+			gc.translate(pos.x, pos.y);
+			gc.setFill(nodeShape.getFill());
+			gc.fillPolygon(xPoints, yPoints, xPoints.length);
+			Paint stroke = nodeShape.getStroke();
+			if (stroke != null && nodeShape.getStrokeWidth() > 0.0) {
+				gc.setStroke(stroke);
+				gc.setLineWidth(nodeShape.getStrokeWidth());
+				gc.strokePolygon(xPoints, yPoints, xPoints.length);
+			}
+			gc.restore();
+		}
+
+		/**
+		 * このノードビューが持つラベル, テキスト, コントロールの背景と枠, 構文エラー表示をキャンバスに描画する. <br>
+		 * 子ノードのビューと非表示の部品は描画しない. ポリゴンは {@link #drawShape} で描画する.
+		 * @param gc 描画先のグラフィックスコンテキスト. ワークスペース上の座標で描画できるように変換が設定されていること.
+		 */
+		public void drawContents(GraphicsContext gc) {
+
+			Vec2D pos = getPositionManager().getPosOnWorkspace();
+			gc.save();
+			gc.translate(pos.x, pos.y);
+			gc.setTextAlign(TextAlignment.LEFT);
+			gc.setTextBaseline(VPos.TOP);
+			for (Node child : BhNodeView.this.getChildrenUnmodifiable())
+				drawComponent(gc, child);
+
+			gc.restore();
+		}
+
+		/**
+		 * ノードビューの部品とその子孫をキャンバスに描画する
+		 * @param gc 描画先のグラフィックスコンテキスト. このノードビューの座標で描画できるように変換が設定されていること.
+		 * @param component 描画する部品
+		 */
+		private void drawComponent(GraphicsContext gc, Node component) {
+
+			if (!component.isVisible() || component == nodeShape || component instanceof BhNodeView)
+				return;
+
+			if (component instanceof Region)
+				drawRegion(gc, (Region)component);
+
+			if (component instanceof Text) {
+				drawText(gc, (Text)component);
+			}
+			else if (component instanceof Line) {
+				Line line = (Line)component;
+				Point2D start = toViewCoordinate(line, line.getStartX(), line.getStartY());
+				Point2D end = toViewCoordinate(line, line.getEndX(), line.getEndY());
+				gc.setStroke(line.getStroke());
+				gc.setLineWidth(line.getStrokeWidth());
+				gc.strokeLine(start.getX(), start.getY(), end.getX(), end.getY());
+			}
+			else if (component instanceof Control && ((Control)component).getSkin() == null) {
+				// スキンが作られていないコントロールは, 表示しているテキストだけを描く
+				drawTextOfControlWithoutSkin(gc, (Control)component);
+				return;
+			}
+
+			if (component instanceof Parent) {
+				for (Node child : ((Parent)component).getChildrenUnmodifiable())
+					drawComponent(gc, child);
+			}
+		}
+
+		/**
+		 * 領域の背景と枠をキャンバスに描画する
+		 */
+		private void drawRegion(GraphicsContext gc, Region region) {
+
+			Bounds bounds = toViewCoordinate(region, region.getLayoutBounds());
+			Background background = region.getBackground();
+			if (background != null) {
+				for (BackgroundFill fill : background.getFills()) {
+					Insets insets = fill.getInsets();
+					double arc = fill.getRadii().getTopLeftHorizontalRadius() * 2.0;
+					gc.setFill(fill.getFill());
+					gc.fillRoundRect(
+						bounds.getMinX() + insets.getLeft(),
+						bounds.getMinY() + insets.getTop(),
+						bounds.getWidth() - insets.getLeft() - insets.getRight(),
+						bounds.getHeight() - insets.getTop() - insets.getBottom(),
+						arc, arc);
+				}
+			}
+
+			Border border = region.getBorder();
+			if (border != null) {
+				for (BorderStroke stroke : border.getStrokes()) {
+					Insets insets = stroke.getInsets();
+					double arc = stroke.getRadii().getTopLeftHorizontalRadius() * 2.0;
+					gc.setStroke(stroke.getTopStroke());
+					gc.setLineWidth(stroke.getWidths().getTop());
+					gc.strokeRoundRect(
+						bounds.getMinX() + insets.getLeft(),
+						bounds.getMinY() + insets.getTop(),
+						bounds.getWidth() - insets.getLeft() - insets.getRight(),
+						bounds.getHeight() - insets.getTop() - insets.getBottom(),
+						arc, arc);
+				}
+			}
+		}
+
+		/**
+		 * テキストをキャンバスに描画する
+		 */
+		private void drawText(GraphicsContext gc, Text text) {
+
+			String str = text.getText();
+			if (str == null || str.isEmpty())
+				return;
+
+			Bounds bounds = toViewCoordinate(text, text.getLayoutBounds());
+			gc.setFont(text.getFont());
+			gc.setFill(text.getFill());
+			gc.fillText(str, bounds.getMinX(), bounds.getMinY());
+		}
+
+		/**
+		 * スキンが作られていないコントロールが表示するテキストをキャンバスに描画する
+		 */
+		private void drawTextOfControlWithoutSkin(GraphicsContext gc, Control control) {
+
+			String str = null;
+			if (control instanceof Labeled) {
+				Labeled labeled = (Labeled)control;
+				str = labeled.getText();
+				gc.setFont(labeled.getFont());
+				gc.setFill(labeled.getTextFill());
+			}
+			else if (control instanceof TextInputControl) {
+				TextInputControl textInput = (TextInputControl)control;
+				str = textInput.getText();
+				gc.setFont(textInput.getFont());
+				gc.setFill(Color.BLACK);
+			}
+
+			if (str == null || str.isEmpty())
+				return;
+
+			Insets padding = control.getPadding();
+			Point2D pos = toViewCoordinate(control, padding.getLeft(), padding.getTop());
+			gc.fillText(str, pos.getX(), pos.getY());
+		}
+
+		/**
+		 * 部品の座標をこのノードビューの座標に変換する
+		 */
+		private Point2D toViewCoordinate(Node component, double x, double y) {
+			return BhNodeView.this.sceneToLocal(component.localToScene(x, y));
+		}
+
+		/**
+		 * 部品の領域をこのノードビューの座標に変換する
+		 */
+		private Bounds toViewCoordinate(Node component, Bounds bounds) {
+			return BhNodeView.this.sceneToLocal(component.localToScene(bounds));
+		}
+
+		/**
+		 * ノードビューの表示内容が変わったことを通知する. <br>
+		 * 大きさが変わらない変更でも, キャンバスに描画したノードが再描画されるようにする.
+		 */
+		public void notifyContentChanged() {
+			viewRegionManager.wholeBodyRange.updatePos();
+		}
+
+		/**
+		 * 選択表示や影などの見た目を初期状態に戻す.
+		 */
+		private void reset() {
+
+			select(false);
+			setSytaxErrorVisibility(false);
+			showDetail(true);
+			switchPseudoClassActivation(false, BhParams.CSS.PSEUDO_IS_EVEN);
+			isShadowRoot = false;
+			shadowShape.setVisible(false);
+			nodeShape.setVisible(true);
+		}
+
 		/**
 		 * ボディの形をセットする. (再描画は行わない)
 		 */
@@ -521,7 +800,7 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 		public void replace(BhNodeView newNode) {
 
 			parent.replace(BhNodeView.this, newNode);
-			newNode.notifySizeChange();
+			BhNodeViewArranger.INSTANCE.arrange(newNode, false);
 		}
 
 		/**
@@ -655,7 +934,7 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 		/**
 		 * このノード以下の奇偶フラグを更新する
 		 */
-		private void updateEvenFlg() {
+		void updateEvenFlg() {
 
 			CallbackInvoker.invoke(
 				view -> {
@@ -689,7 +968,7 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 		/**
 		 * このノードビューのルートノードビューを返す
 		 */
-		BhNodeView getRootView() {
+		public BhNodeView getRootView() {
 
 			BhNodeView parent = getParentView();
 			if (parent == null)
@@ -714,6 +993,7 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 
 		private BiConsumer<Double, Double> onAbsPosUpdated;
 		private final Vec2D relativePos = new Vec2D(0.0, 0.0);
+		private boolean absPosDirty = false;	//!< 差分レイアウト中に, このノードビュー以下の絶対位置を必ず更新する場合 true
 
 		/**
 		 * 親 BhNodeView からの相対位置を指定する
@@ -751,10 +1031,33 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 
 			viewRegionManager.updatePosOnQTSpace(posX, posY);
 			updatePosOnWorkspace(posX, posY);
+			absPosDirty = false;
+			BhNodeViewArranger.INSTANCE.addRelocatedView(BhNodeView.this);
 			if (onAbsPosUpdated != null)
 				onAbsPosUpdated.accept(posX, posY);
 		}
 
+		/**
+		 * 差分レイアウト中に, このノードビュー以下の絶対位置の更新を省略できるか調べる.
+		 * @param posX 本体部分左上の新しいワークスペース上でのX位置
+		 * @param posY 本体部分左上の新しいワークスペース上でのY位置
+		 * @return 差分レイアウト中でかつ, このノードビュー以下の形状も位置も変わらない場合 true.
+		 */
+		boolean canSkipAbsPosUpdate(double posX, double posY) {
+
+			return BhNodeViewArranger.INSTANCE.isRelocating()
+				&& !absPosDirty
+				&& BhNodeView.this.getTranslateX() == posX
+				&& BhNodeView.this.getTranslateY() == posY;
+		}
+
+		/**
+		 * 次の再配置で, このノードビュー以下の絶対位置を必ず更新するように設定する.
+		 */
+		void setAbsPosDirty() {
+			absPosDirty = true;
+		}
+
 		/**
 		 * GUI部品のワークスペース上での位置を更新する.
 		 */
@@ -769,25 +1072,32 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 		}
 
 		/**
-		 * このノード以下のノードのZ位置を更新する
+		 * このノード以下のノードのZ位置を更新する. <br>
+		 * Z位置が変わらなかったノードの子孫は, 既に正しいZ位置にあるので更新しない.
 		 */
 		public void updateZPos() {
 
-			CallbackInvoker.invoke(
-				nodeView -> {
-					nodeView.syntaxErrorMark.setViewOrder(SYNTAX_ERR_MARK_VIEW_ORDER);
-					Parent parent = nodeView.getTreeManager().getParentView();
-					if (parent == null) {
-						nodeView.setViewOrder(0.0);
-						nodeView.getPositionManager().updateShadowZPos();
-						return;
-					}
-					double viewOrder = parent.getViewOrder() + CHILD_VIEW_ORDER_OFFSET_FROM_PARENT;
-					nodeView.setViewOrder(viewOrder);
-					nodeView.getPositionManager().updateShadowZPos();
-				},
-				BhNodeView.this,
-				false);
+			updateShadowZPos();
+			CallbackInvoker.invokeWhile(
+				nodeView -> nodeView.getPositionManager().updateOwnZPos(), BhNodeView.this);
+		}
+
+		/**
+		 * このノードのZ位置だけを親ノードのZ位置に合わせて更新する.
+		 * @return Z位置が変わった場合 true
+		 */
+		private boolean updateOwnZPos() {
+
+			Parent parent = getTreeManager().getParentView();
+			double viewOrder = (parent == null) ? 0.0 : parent.getViewOrder() + CHILD_VIEW_ORDER_OFFSET_FROM_PARENT;
+			if (BhNodeView.this.getViewOrder() == viewOrder
+				&& syntaxErrorMark.getViewOrder() == SYNTAX_ERR_MARK_VIEW_ORDER)
+				return false;
+
+			syntaxErrorMark.setViewOrder(SYNTAX_ERR_MARK_VIEW_ORDER);
+			BhNodeView.this.setViewOrder(viewOrder);
+			updateShadowZPos();
+			return true;
 		}
 
 		/**
@@ -815,6 +1125,19 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 			getEventManager().invokeOnMoved();
 		}
 
+		/**
+		 * 位置と描画順序を初期状態に戻す.
+		 */
+		private void reset() {
+
+			relativePos.x = 0.0;
+			relativePos.y = 0.0;
+			absPosDirty = false;
+			updatePosOnWorkspace(0.0, 0.0);
+			BhNodeView.this.setViewOrder(0.0);
+			syntaxErrorMark.setViewOrder(SYNTAX_ERR_MARK_VIEW_ORDER);
+		}
+
 		/**
 		 * 絶対位置が更新された時のイベントハンドラをセットする
 		 */
@@ -833,6 +1156,10 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 				if (parent != null)
 					parent.toFront();
 
+				// ルートノードはツリーを持つ Group ごと最前面に移るので, ツリー内の描画順序は変えなくてよい
+				if (getTreeManager().getParentView() == null)
+					return;
+
 				CallbackInvoker.invoke(
 					nodeView -> {
 						nodeView.setViewOrder(nodeView.getViewOrder() + FRONT_VIEW_ORDER_OFFSET);
@@ -956,6 +1283,7 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 		 *
 		 * <p> イベントハンドラを登録したノードを含むノードビューツリーの全ノードの更新が終わったとき
 		 * {@code handler} が呼ばれる.
+		 * ただし, ルートノード以外では, 更新によって形状か位置が変わった場合のみ {@code handler} が呼ばれる.
 		 * <p> 登録したハンドラは, GUIスレッド上で実行される.
 		 *
 		 * @param handler 追加するイベントハンドラ.
@@ -972,6 +1300,21 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 			onNodeSizesInTreeChanged.add(handler);
 		}
 
+		/**
+		 * 登録されている全てのイベントハンドラを取り除く.
+		 */
+		private void reset() {
+
+			setOnMousePressed(null);
+			setOnMouseDragged(null);
+			setOnDragDetected(null);
+			setOnMouseReleased(null);
+			onMoved.clear();
+			onAddToWorkspaceView.clear();
+			onRemovedFromWorkspaceView.clear();
+			onNodeSizesInTreeChanged.clear();
+		}
+
 		/**
 		 * ノードビューの位置が変わったときのイベントハンドラを実行する,
 		 */
@@ -1008,7 +1351,7 @@ public abstract class BhNodeView extends Pane implements NodeViewComponent, Show
 		/**
 		 * ノードビューツリー内の全ノードのサイズ変更が完了した時のイベントハンドラを実行する.
 		 */
-		private void invokeOnNodeSizesInTreeChanged() {
+		void invokeOnNodeSizesInTreeChanged() {
 
 			if (!Platform.isFxApplicationThread())
 				throw new IllegalStateException(getClass().getSimpleName() + ".invokeOnNodeSizesInTreeChanged" +
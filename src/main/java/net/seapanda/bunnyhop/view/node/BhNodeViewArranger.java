@@ -0,0 +1,273 @@
+/**
+ * Copyright 2017 K.Koike
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.seapanda.bunnyhop.view.node;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import net.seapanda.bunnyhop.common.Vec2D;
+import net.seapanda.bunnyhop.viewprocessor.CallbackInvoker;
+
+/**
+ * ノードビューの再配置要求をまとめて処理するクラス. <br>
+ * バッチ処理中に受け付けた要求はバッチ処理の終了時に, ノードビューのサイズ変更の通知は JavaFX のパルスごとにまとめて処理する.
+ * @author K.Koike
+ */
+public class BhNodeViewArranger {
+
+	public static final BhNodeViewArranger INSTANCE = new BhNodeViewArranger();	//!< シングルトンインスタンス
+	/** 再配置を待っているノードビューと, その子孫も再配置するかどうかのフラグ */
+	private final Map<BhNodeView, Boolean> viewToArrangesDescendants = new LinkedHashMap<>();
+	/** パルスごとの再配置処理を登録済みのシーン */
+	private final Set<Scene> scenesWithPulseListener = Collections.newSetFromMap(new WeakHashMap<Scene, Boolean>());
+	private int batchDepth = 0;	//!< 入れ子になったバッチ処理の深さ
+	private boolean isFlushScheduled = false;	//!< Platform.runLater で再配置処理を予約済みの場合 true
+	/** 再配置中に絶対位置を更新したノードビューのリスト. 再配置中でない場合は null. */
+	private List<BhNodeView> relocatedViews = null;
+
+	private BhNodeViewArranger() {}
+
+	/**
+	 * バッチ処理を開始する. <br>
+	 * {@link #endBatch} を呼ぶまでノードビューの再配置を保留する. 必ず try-finally で {@link #endBatch} と対にして呼ぶこと.
+	 */
+	public void beginBatch() {
+		++batchDepth;
+	}
+
+	/**
+	 * バッチ処理を終了する. <br>
+	 * 最も外側のバッチ処理が終了した場合, 保留していた再配置をまとめて行う.
+	 */
+	public void endBatch() {
+
+		--batchDepth;
+		if (batchDepth == 0)
+			flush();
+	}
+
+	/**
+	 * 保留している再配置を全て行う. <br>
+	 * バッチ処理中は何もしない.
+	 */
+	public void flush() {
+
+		if (batchDepth > 0 || viewToArrangesDescendants.isEmpty())
+			return;
+
+		var viewsToArrange = new LinkedHashMap<>(viewToArrangesDescendants);
+		viewToArrangesDescendants.clear();
+		viewsToArrange.forEach((view, arrangesDescendants) -> {
+			if (arrangesDescendants) {
+				CallbackInvoker.invoke(
+					nodeView -> nodeView.arrangeAndResize(),
+					group -> group.arrangeAndResize(),
+					view,
+					true);
+			}
+			else {
+				view.arrangeAndResize();
+			}
+			CallbackInvoker.invoke(nodeView -> nodeView.getPositionManager().setAbsPosDirty(), view, false);
+		});
+
+		Set<BhNodeView> topViews = arrangeAncestors(viewsToArrange.keySet());
+		viewsToArrange.keySet().forEach(view -> view.getTreeManager().updateEvenFlg());
+		List<BhNodeView> relocated = relocate(topViews);
+
+		var viewsToNotify = new LinkedHashSet<BhNodeView>(relocated);
+		topViews.forEach(view -> viewsToNotify.add(view.getTreeManager().getRootView()));
+		viewsToNotify.forEach(view -> view.getEventManager().invokeOnNodeSizesInTreeChanged());
+	}
+
+	/**
+	 * ノードビューを再配置する. <br>
+	 * バッチ処理中は, バッチ処理の終了時まで再配置を保留する.
+	 * @param view 再配置するノードビュー
+	 * @param arrangesDescendants {@code view} 以下の全ノードビューを再配置する場合 true.
+	 *                            {@code view} とその先祖のみを再配置する場合 false.
+	 */
+	void arrange(BhNodeView view, boolean arrangesDescendants) {
+
+		viewToArrangesDescendants.merge(view, arrangesDescendants, Boolean::logicalOr);
+		flush();
+	}
+
+	/**
+	 * ノードビューの再配置を予約する. <br>
+	 * 再配置はバッチ処理の終了時か, 次のパルスのレイアウト処理の直後にまとめて行う.
+	 * @param view 再配置するノードビュー
+	 */
+	void arrangeLater(BhNodeView view) {
+
+		viewToArrangesDescendants.merge(view, false, Boolean::logicalOr);
+		if (batchDepth == 0)
+			scheduleFlush(view.getScene());
+	}
+
+	/**
+	 * 保留している再配置を行う処理を予約する.
+	 * @param scene 再配置するノードビューが属するシーン. (null 可)
+	 */
+	private void scheduleFlush(Scene scene) {
+
+		if (scene != null) {
+			if (scenesWithPulseListener.add(scene))
+				scene.addPostLayoutPulseListener(this::flush);
+			Platform.requestNextPulse();
+		}
+		else if (!isFlushScheduled) {
+			isFlushScheduled = true;
+			Platform.runLater(() -> {
+				isFlushScheduled = false;
+				flush();
+			});
+		}
+	}
+
+	/**
+	 * 再配置したノードビューの先祖を, 深い位置にあるグループから順に再配置する.
+	 *
+	 * <p> サイズの変わらなかったグループがあった場合, それより上の要素は再配置しない.
+	 * @param views 再配置したノードビュー
+	 * @return 絶対位置の更新を始めるノードビューのセット
+	 */
+	private Set<BhNodeView> arrangeAncestors(Collection<BhNodeView> views) {
+
+		var groupToDepth = new HashMap<BhNodeViewGroup, Integer>();
+		var groupsToArrange = new PriorityQueue<BhNodeViewGroup>(
+			Comparator.comparingInt((BhNodeViewGroup group) -> calcDepth(group, groupToDepth)).reversed());
+		var queuedGroups = new HashSet<BhNodeViewGroup>();
+		var topViews = new LinkedHashSet<BhNodeView>();
+
+		for (BhNodeView view : views) {
+			if (view.parent == null)
+				topViews.add(view);
+			else if (queuedGroups.add(view.parent))
+				groupsToArrange.add(view.parent);
+		}
+
+		while (!groupsToArrange.isEmpty()) {
+			BhNodeViewGroup group = groupsToArrange.poll();
+			Vec2D oldSize = group.getSize();
+			group.arrangeAndResize();
+			if (oldSize.equals(group.getSize())) {
+				topViews.add(group.getParentView());
+				continue;
+			}
+
+			BhNodeViewGroup nextGroup = group.getParentGroup();
+			if (nextGroup == null) {
+				BhNodeView parentView = group.getParentView();
+				parentView.arrangeAndResize();
+				parentView.getPositionManager().setAbsPosDirty();
+				nextGroup = parentView.parent;
+				if (nextGroup == null) {
+					topViews.add(parentView);
+					continue;
+				}
+			}
+			if (queuedGroups.add(nextGroup))
+				groupsToArrange.add(nextGroup);
+		}
+		return topViews;
+	}
+
+	/**
+	 * ルートノードビューからグループまでの深さを計算する.
+	 * @param group 深さを計算するグループ
+	 * @param groupToDepth 計算済みのグループとその深さのマップ
+	 * @return ルートノードビューからグループまでの深さ
+	 */
+	private int calcDepth(BhNodeViewGroup group, Map<BhNodeViewGroup, Integer> groupToDepth) {
+
+		Integer depth = groupToDepth.get(group);
+		if (depth != null)
+			return depth;
+
+		if (group.getParentGroup() != null) {
+			depth = calcDepth(group.getParentGroup(), groupToDepth) + 1;
+		}
+		else {
+			BhNodeViewGroup groupOfParentView = group.getParentView().parent;
+			depth = (groupOfParentView == null) ? 1 : calcDepth(groupOfParentView, groupToDepth) + 2;
+		}
+		groupToDepth.put(group, depth);
+		return depth;
+	}
+
+	/**
+	 * ノードビューの絶対位置を更新する. <br>
+	 * 位置も形状も変わらないノードビュー以下の更新は省略する.
+	 * @param topViews これらのノードビュー以下の絶対位置を更新する
+	 * @return 絶対位置を更新したノードビューのリスト
+	 */
+	private List<BhNodeView> relocate(Collection<BhNodeView> topViews) {
+
+		List<BhNodeView> relocated = new ArrayList<>();
+		List<BhNodeView> prevRelocated = relocatedViews;
+		relocatedViews = relocated;
+		try {
+			for (BhNodeView view : topViews) {
+				Vec2D pos = view.getPositionManager().getPosOnWorkspace();
+				view.getPositionManager().setPosOnWorkspace(pos.x, pos.y);
+			}
+		}
+		finally {
+			relocatedViews = prevRelocated;
+		}
+		return relocated;
+	}
+
+	/**
+	 * ノードビューの再配置中かどうかを返す.
+	 * @return ノードビューの再配置中の場合 true
+	 */
+	boolean isRelocating() {
+		return relocatedViews != null;
+	}
+
+	/**
+	 * 再配置中に絶対位置を更新したノードビューを記録する.
+	 * @param view 絶対位置を更新したノードビュー
+	 */
+	void addRelocatedView(BhNodeView view) {
+
+		if (relocatedViews != null)
+			relocatedViews.add(view);
+	}
+}
+
+
+
+
+
+
+
+
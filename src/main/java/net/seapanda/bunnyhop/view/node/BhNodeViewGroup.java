@@ -111,6 +111,19 @@ public class BhNodeViewGroup implements NodeViewComponent, Showable {
 		return false;
 	}
 
+	/**
+	 * このグループ以下の子ノードビューを全て取り除く. <br>
+	 * 取り除いたノードビューのGUIツリーからの削除と親グループの解除は行わない.
+	 */
+	void clearNodeViews() {
+
+		for (Entry<String, BhNodeView> entrySet : cnctrNameToNodeView.entrySet())
+			entrySet.setValue(null);
+
+		for (BhNodeViewGroup subGroup : subGroupList)
+			subGroup.clearNodeViews();
+	}
+
 	/**
 	 * このグループが持つoldNodeView をnewNodeViewと入れ替える. <br>
 	 * ただし, 古いノードのGUIツリーからの削除は行わない
@@ -185,7 +198,10 @@ public class BhNodeViewGroup implements NodeViewComponent, Showable {
 			BhNodeView childNodeView = cnctrNameToNodeView.get(cnctrName);
 			if (childNodeView != null) {
 				Vec2D relativePos = childNodeView.getPositionManager().getRelativePosFromParent();
-				childNodeView.getPositionManager().setPosOnWorkspace(posX + relativePos.x, posY + relativePos.y);
+				double childPosX = posX + relativePos.x;
+				double childPosY = posY + relativePos.y;
+				if (!childNodeView.getPositionManager().canSkipAbsPosUpdate(childPosX, childPosY))
+					childNodeView.getPositionManager().setPosOnWorkspace(childPosX, childPosY);
 			}
 		});
 
@@ -342,7 +358,8 @@ public class BhNodeViewGroup implements NodeViewComponent, Showable {
 	 * @param visitor サブグループに渡す visitor
 	 * */
 	public void sendToSubGroupList(NodeViewProcessor visitor) {
-		subGroupList.forEach(group -> group.accept(visitor));
+		for (int i = 0; i < subGroupList.size(); ++i)
+			subGroupList.get(i).accept(visitor);
 	}
 
 	/**
@@ -350,10 +367,15 @@ public class BhNodeViewGroup implements NodeViewComponent, Showable {
 	 * @param visitor 子ノードビューに渡す visitor
 	 * */
 	public void sendToChildNode(NodeViewProcessor visitor) {
-		cnctrNameToNodeView.values().forEach(child -> {
+		if (arrangeParams == null)
+			return;
+
+		List<String> cnctrNameList = arrangeParams.cnctrNameList;
+		for (int i = 0; i < cnctrNameList.size(); ++i) {
+			BhNodeView child = cnctrNameToNodeView.get(cnctrNameList.get(i));
 			if (child != null)
 				child.accept(visitor);
-		});
+		}
 	}
 
 	@Override
@@ -0,0 +1,118 @@
+/**
+ * Copyright 2017 K.Koike
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.seapanda.bunnyhop.view.node;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import net.seapanda.bunnyhop.common.constant.BhParams;
+import net.seapanda.bunnyhop.common.tools.MsgPrinter;
+import net.seapanda.bunnyhop.message.BhMsg;
+import net.seapanda.bunnyhop.message.MsgData;
+import net.seapanda.bunnyhop.model.node.BhNode;
+import net.seapanda.bunnyhop.model.node.attribute.BhNodeID;
+import net.seapanda.bunnyhop.view.ViewInitializationException;
+import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle;
+import net.seapanda.bunnyhop.viewprocessor.CallbackInvoker;
+
+/**
+ * 使われなくなったノードビューを保持し, 同じ種類のノードのビューとして再利用するためのクラス. <br>
+ * ノードビューはノードスタイルIDごとに保持する.
+ * 入力 GUI 部品の fxml はノードIDで決まるので, 取り出す際は元のモデルのノードIDとビューのクラスも一致するものを選ぶ.
+ * @author K.Koike
+ */
+public class BhNodeViewPool {
+
+	public static final BhNodeViewPool INSTANCE = new BhNodeViewPool();	//!< シングルトンインスタンス
+	/** ノードスタイルIDと再利用可能なノードビューのリストのマップ */
+	private final Map<String, LinkedList<PooledView>> styleIdToViews = new HashMap<>();
+
+	private BhNodeViewPool() {}
+
+	/**
+	 * 引数で指定したノードビュー以下のノードビューを, モデルから切り離してプールに入れる. <br>
+	 * 各ノードビューの元のモデルには, 以後メッセージを受け取っても何もしないメッセージプロセッサを設定する.
+	 * @param rootView プールに入れるノードビューツリーのルート. ワークスペースやノード選択ビューから取り除かれていること.
+	 */
+	public void release(BhNodeView rootView) {
+
+		List<BhNodeView> views = new ArrayList<>();
+		CallbackInvoker.invoke(views::add, rootView, false);
+		for (int i = 0; i < views.size(); ++i) {
+			BhNodeView view = views.get(i);
+			BhNode oldModel = view.getModel();
+			BhNodeID nodeID = oldModel.getID();
+			oldModel.setMsgProcessor((BhMsg msg, MsgData data) -> null);
+			view.resetForReuse();
+
+			String styleID = view.viewStyle.nodeStyleID;
+			LinkedList<PooledView> pooled = styleIdToViews.computeIfAbsent(styleID, key -> new LinkedList<>());
+			if (pooled.size() < BhParams.MAX_POOLED_NODE_VIEWS)
+				pooled.addLast(new PooledView(nodeID, view));
+		}
+	}
+
+	/**
+	 * 引数で指定したノードのビューとして使えるノードビューをプールから取り出し, そのノードに対応させる.
+	 * @param node 取り出したノードビューに対応させるノード
+	 * @param viewClass 取り出すノードビューのクラス
+	 * @return {@code node} のビューとして初期化したノードビュー. 再利用できるノードビューが無い場合は Optional.empty
+	 */
+	public <T extends BhNodeView> Optional<T> reuse(BhNode node, Class<T> viewClass) {
+
+		String styleID = BhNodeViewStyle.getNodeViewStyleFromNodeID(node.getID()).nodeStyleID;
+		LinkedList<PooledView> pooled = styleIdToViews.get(styleID);
+		if (pooled == null)
+			return Optional.empty();
+
+		Iterator<PooledView> iter = pooled.descendingIterator();
+		while (iter.hasNext()) {
+			PooledView candidate = iter.next();
+			if (!candidate.nodeID.equals(node.getID()) || !viewClass.isInstance(candidate.view))
+				continue;
+
+			iter.remove();
+			try {
+				candidate.view.reinit(node);
+				return Optional.of(viewClass.cast(candidate.view));
+			}
+			catch (ViewInitializationException e) {
+				MsgPrinter.INSTANCE.errMsgForDebug(getClass().getSimpleName() + ".reuse\n" + e);
+				return Optional.empty();
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * プールに入っているノードビューとその元のモデルのノードID
+	 */
+	private static class PooledView {
+
+		final BhNodeID nodeID;	//!< ノードビューの元のモデルのノードID
+		final BhNodeView view;	//!< 再利用可能なノードビュー
+
+		PooledView(BhNodeID nodeID, BhNodeView view) {
+			this.nodeID = nodeID;
+			this.view = view;
+		}
+	}
+}
@@ -34,14 +34,13 @@ import net.seapanda.bunnyhop.common.Vec2D;
 import net.seapanda.bunnyhop.common.constant.BhParams;
 import net.seapanda.bunnyhop.common.tools.MsgPrinter;
 import net.seapanda.bunnyhop.message.MsgService;
+import net.seapanda.bunnyhop.model.node.BhNode;
 import net.seapanda.bunnyhop.model.node.TextNode;
 import net.seapanda.bunnyhop.view.ViewHelper;
 import net.seapanda.bunnyhop.view.ViewInitializationException;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle.CNCTR_POS;
 import net.seapanda.bunnyhop.view.node.part.ComponentLoader;
-import net.seapanda.bunnyhop.view.node.part.ImitationCreationButton;
-import net.seapanda.bunnyhop.view.node.part.PrivateTemplateCreationButton;
 import net.seapanda.bunnyhop.view.node.part.SelectableItem;
 import net.seapanda.bunnyhop.viewprocessor.NodeViewProcessor;
 
@@ -52,9 +51,10 @@ import net.seapanda.bunnyhop.viewprocessor.NodeViewProcessor;
 public final class ComboBoxNodeView extends BhNodeView {
 
 	private ComboBox<SelectableItem> comboBox = new ComboBox<>();
-	private final TextNode model;
+	private TextNode model;
 	private final ListCell<SelectableItem> buttonCell = new ComboBoxNodeListCell();
 	private final Single<Boolean> dragged = new Single<>(false);
+	private ChangeListener<SelectableItem> itemChangeListener;	//!< コンボボックスのアイテム変化時のイベントハンドラ
 
 	/**
 	 * コンストラクタ
@@ -78,19 +78,7 @@ public final class ComboBoxNodeView extends BhNodeView {
 			getClass().getSimpleName() + "  failed To load the ComboBox of this view."));
 		getTreeManager().addChild(comboBox);
 
-		if (model.canCreateImitManually) {
-			var imitButtonOpt = ImitationCreationButton.create(model, viewStyle.imitation);
-			var imitButton = imitButtonOpt.orElseThrow(() -> new ViewInitializationException(
-				getClass().getSimpleName() + "  failed To load the Imitation Creation Button of this view."));
-			getTreeManager().addChild(imitButton);
-		}
-
-		if (model.hasPrivateTemplateNodes()) {
-			var privateTemplateBtnOpt = PrivateTemplateCreationButton.create(model, viewStyle.privatTemplate);
-			var privateTemplateBtn = privateTemplateBtnOpt.orElseThrow(() -> new ViewInitializationException(
-				getClass().getSimpleName() + "  failed To load the Private Template Button of this view."));
-			getTreeManager().addChild(privateTemplateBtn);
-		}
+		addButtons(model);
 
 		initStyle();
 		setComboBoxEventHandlers();
@@ -104,12 +92,33 @@ public final class ComboBoxNodeView extends BhNodeView {
 		comboBox.getStyleClass().add(viewStyle.comboBox.cssClass);
 		comboBox.heightProperty().addListener(observable -> notifySizeChange());
 		comboBox.widthProperty().addListener(observable -> notifySizeChange());
+		comboBox.valueProperty().addListener(observable -> getAppearanceManager().notifyContentChanged());
 		if (!comboBox.getItems().isEmpty()) {
 			comboBox.setValue(comboBox.getItems().get(0));
 		}
 		getAppearanceManager().addCssClass(BhParams.CSS.CLASS_COMBO_BOX_NODE);
 	}
 
+	@Override
+	void resetForReuse() {
+
+		super.resetForReuse();
+		setTextChangeListener(null);
+		if (!comboBox.getItems().isEmpty())
+			comboBox.setValue(comboBox.getItems().get(0));
+
+		dragged.content = false;
+		model = null;
+	}
+
+	@Override
+	void reinit(BhNode model) throws ViewInitializationException {
+
+		super.reinit(model);
+		this.model = (TextNode)model;
+		addButtons(this.model);
+	}
+
 	/**
 	 * このビューのモデルであるBhNodeを取得する
 	 * @return このビューのモデルであるBhNode
@@ -120,11 +129,17 @@ public final class ComboBoxNodeView extends BhNodeView {
 	}
 
 	/**
-	 * コンボボックスのアイテム変化時のイベントハンドラを登録する
-	 * @param handler コンボボックスのアイテム変化時のイベントハンドラ
+	 * コンボボックスのアイテム変化時のイベントハンドラを登録する. 登録済みのイベントハンドラは置き換える.
+	 * @param handler コンボボックスのアイテム変化時のイベントハンドラ. null の場合はイベントハンドラを取り除くだけ.
 	 * */
 	public void setTextChangeListener(ChangeListener<SelectableItem> handler) {
-		comboBox.valueProperty().addListener(handler);
+
+		if (itemChangeListener != null)
+			comboBox.valueProperty().removeListener(itemChangeListener);
+
+		itemChangeListener = handler;
+		if (handler != null)
+			comboBox.valueProperty().addListener(handler);
 	}
 
 	/**
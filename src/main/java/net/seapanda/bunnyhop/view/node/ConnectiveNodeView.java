@@ -18,12 +18,11 @@ package net.seapanda.bunnyhop.view.node;
 import net.seapanda.bunnyhop.common.Vec2D;
 import net.seapanda.bunnyhop.common.constant.BhParams;
 import net.seapanda.bunnyhop.common.tools.MsgPrinter;
+import net.seapanda.bunnyhop.model.node.BhNode;
 import net.seapanda.bunnyhop.model.node.connective.ConnectiveNode;
 import net.seapanda.bunnyhop.view.ViewInitializationException;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle.CNCTR_POS;
-import net.seapanda.bunnyhop.view.node.part.ImitationCreationButton;
-import net.seapanda.bunnyhop.view.node.part.PrivateTemplateCreationButton;
 import net.seapanda.bunnyhop.viewprocessor.NodeViewProcessor;
 
 /**
@@ -57,19 +56,24 @@ public final class ConnectiveNodeView extends BhNodeView{
 		getPositionManager().setOnAbsPosUpdated(this::updateAbsPos);
 		getAppearanceManager().addCssClass(BhParams.CSS.CLASS_CONNECTIVE_NODE);
 
-		if (model.canCreateImitManually) {
-			var imitButtonOpt = ImitationCreationButton.create(model, viewStyle.imitation);
-			var imitButton = imitButtonOpt.orElseThrow(() -> new ViewInitializationException(
-				getClass().getSimpleName() + "  failed To load the Imitation Creation Button of this view."));
-			getTreeManager().addChild(imitButton);
-		}
+		addButtons(model);
+	}
 
-		if (model.hasPrivateTemplateNodes()) {
-			var privateTemplateBtnOpt = PrivateTemplateCreationButton.create(model, viewStyle.privatTemplate);
-			var privateTemplateBtn = privateTemplateBtnOpt.orElseThrow(() -> new ViewInitializationException(
-				getClass().getSimpleName() + "  failed To load the Private Template Button of this view."));
-			getTreeManager().addChild(privateTemplateBtn);
-		}
+	@Override
+	void resetForReuse() {
+
+		super.resetForReuse();
+		innerGroup.clearNodeViews();
+		outerGroup.clearNodeViews();
+		model = null;
+	}
+
+	@Override
+	void reinit(BhNode model) throws ViewInitializationException {
+
+		super.reinit(model);
+		this.model = (ConnectiveNode)model;
+		addButtons(this.model);
 	}
 
 	/**
@@ -19,13 +19,12 @@ import javafx.scene.control.Label;
 import net.seapanda.bunnyhop.common.Vec2D;
 import net.seapanda.bunnyhop.common.constant.BhParams;
 import net.seapanda.bunnyhop.common.tools.MsgPrinter;
+import net.seapanda.bunnyhop.model.node.BhNode;
 import net.seapanda.bunnyhop.model.node.TextNode;
 import net.seapanda.bunnyhop.view.ViewInitializationException;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle.CNCTR_POS;
 import net.seapanda.bunnyhop.view.node.part.ComponentLoader;
-import net.seapanda.bunnyhop.view.node.part.ImitationCreationButton;
-import net.seapanda.bunnyhop.view.node.part.PrivateTemplateCreationButton;
 import net.seapanda.bunnyhop.viewprocessor.NodeViewProcessor;
 
 /**
@@ -35,7 +34,7 @@ import net.seapanda.bunnyhop.viewprocessor.NodeViewProcessor;
 public final class LabelNodeView extends BhNodeView {
 
 	private Label label = new Label();
-	private final TextNode model;
+	private TextNode model;
 
 	/**
 	 * コンストラクタ
@@ -58,19 +57,7 @@ public final class LabelNodeView extends BhNodeView {
 			getClass().getSimpleName() + "  failed To load the Label of this view."));
 		getTreeManager().addChild(label);
 
-		if (model.canCreateImitManually) {
-			var imitButtonOpt = ImitationCreationButton.create(model, viewStyle.imitation);
-			var imitButton = imitButtonOpt.orElseThrow(() -> new ViewInitializationException(
-				getClass().getSimpleName() + "  failed To load the Imitation Creation Button of this view."));
-			getTreeManager().addChild(imitButton);
-		}
-
-		if (model.hasPrivateTemplateNodes()) {
-			var privateTemplateBtnOpt = PrivateTemplateCreationButton.create(model, viewStyle.privatTemplate);
-			var privateTemplateBtn = privateTemplateBtnOpt.orElseThrow(() -> new ViewInitializationException(
-				getClass().getSimpleName() + "  failed To load the Private Template Button of this view."));
-			getTreeManager().addChild(privateTemplateBtn);
-		}
+		addButtons(model);
 
 		initStyle();
 	}
@@ -87,6 +74,20 @@ public final class LabelNodeView extends BhNodeView {
 		getAppearanceManager().addCssClass(BhParams.CSS.CLASS_LABEL_NODE);
 	}
 
+	@Override
+	void resetForReuse() {
+		super.resetForReuse();
+		model = null;
+	}
+
+	@Override
+	void reinit(BhNode model) throws ViewInitializationException {
+
+		super.reinit(model);
+		this.model = (TextNode)model;
+		addButtons(this.model);
+	}
+
 	/**
 	 * このビューのモデルであるBhNodeを取得する
 	 * @return このビューのモデルであるBhNode
@@ -138,6 +139,7 @@ public final class LabelNodeView extends BhNodeView {
 
 	public void setText(String text) {
 		label.setText(text);
+		getAppearanceManager().notifyContentChanged();
 	}
 
 	@Override
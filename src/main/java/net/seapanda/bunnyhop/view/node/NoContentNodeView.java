@@ -18,7 +18,9 @@ package net.seapanda.bunnyhop.view.node;
 import net.seapanda.bunnyhop.common.Vec2D;
 import net.seapanda.bunnyhop.common.constant.BhParams;
 import net.seapanda.bunnyhop.common.tools.MsgPrinter;
+import net.seapanda.bunnyhop.model.node.BhNode;
 import net.seapanda.bunnyhop.model.node.TextNode;
+import net.seapanda.bunnyhop.view.ViewInitializationException;
 import net.seapanda.bunnyhop.view.bodyshape.BodyShape.BODY_SHAPE;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle.CNCTR_POS;
@@ -29,7 +31,7 @@ import net.seapanda.bunnyhop.viewprocessor.NodeViewProcessor;
  * */
 public class NoContentNodeView extends BhNodeView {
 
-	private final TextNode model;	//!< このビューに対応するモデル
+	private TextNode model;	//!< このビューに対応するモデル
 
 	/**
 	 * コンストラクタ
@@ -44,6 +46,18 @@ public class NoContentNodeView extends BhNodeView {
 		setMouseTransparent(true);
 	}
 
+	@Override
+	void resetForReuse() {
+		super.resetForReuse();
+		model = null;
+	}
+
+	@Override
+	void reinit(BhNode model) throws ViewInitializationException {
+		super.reinit(model);
+		this.model = (TextNode)model;
+	}
+
 	/**
 	 * このビューのモデルであるBhNodeを取得する
 	 * @return このビューのモデルであるBhNode
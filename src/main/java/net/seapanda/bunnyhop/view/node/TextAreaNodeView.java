@@ -29,14 +29,13 @@ import net.seapanda.bunnyhop.common.Vec2D;
 import net.seapanda.bunnyhop.common.constant.BhParams;
 import net.seapanda.bunnyhop.common.tools.MsgPrinter;
 import net.seapanda.bunnyhop.message.MsgService;
+import net.seapanda.bunnyhop.model.node.BhNode;
 import net.seapanda.bunnyhop.model.node.TextNode;
 import net.seapanda.bunnyhop.view.ViewHelper;
 import net.seapanda.bunnyhop.view.ViewInitializationException;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle.CNCTR_POS;
 import net.seapanda.bunnyhop.view.node.part.ComponentLoader;
-import net.seapanda.bunnyhop.view.node.part.ImitationCreationButton;
-import net.seapanda.bunnyhop.view.node.part.PrivateTemplateCreationButton;
 import net.seapanda.bunnyhop.viewprocessor.NodeViewProcessor;
 
 /**
@@ -46,7 +45,8 @@ import net.seapanda.bunnyhop.viewprocessor.NodeViewProcessor;
 public final class TextAreaNodeView  extends TextInputNodeView {
 
 	private TextArea textArea = new TextArea();
-	private final TextNode model;
+	private TextNode model;
+	private Function<String, Boolean> checkFormatFunc;	//!< 入力された文字列の形式が正しいかどうか判断する関数
 
 	/**
 	 * コンストラクタ
@@ -70,19 +70,7 @@ public final class TextAreaNodeView  extends TextInputNodeView {
 		getTreeManager().addChild(textArea);
 		textArea.addEventFilter(MouseEvent.ANY, this::propagateEvent);
 
-		if (model.canCreateImitManually) {
-			var imitButtonOpt = ImitationCreationButton.create(model, viewStyle.imitation);
-			var imitButton = imitButtonOpt.orElseThrow(() -> new ViewInitializationException(
-				getClass().getSimpleName() + "  failed To load the Imitation Creation Button of this view."));
-			getTreeManager().addChild(imitButton);
-		}
-
-		if (model.hasPrivateTemplateNodes()) {
-			var privateTemplateBtnOpt = PrivateTemplateCreationButton.create(model, viewStyle.privatTemplate);
-			var privateTemplateBtn = privateTemplateBtnOpt.orElseThrow(() -> new ViewInitializationException(
-				getClass().getSimpleName() + "  failed To load the Private Template Button of this view."));
-			getTreeManager().addChild(privateTemplateBtn);
-		}
+		addButtons(model);
 
 		initStyle();
 	}
@@ -101,12 +89,29 @@ public final class TextAreaNodeView  extends TextInputNodeView {
 		textArea.getStyleClass().add(viewStyle.textArea.cssClass);
 		textArea.heightProperty().addListener((observable, oldVal , newVal) -> notifySizeChange());
 		textArea.widthProperty().addListener((observable, oldVal , newVal) -> notifySizeChange());
+		textArea.boundsInLocalProperty().addListener((observable, oldVal, newVal) -> updateTextAreaLook());
+		// テキストの長さに応じてTextArea のサイズが変わるように
+		textArea.textProperty().addListener((observable, oldVal, newVal) -> updateTextAreaLook());
 		textArea.setWrapText(false);
 		textArea.setMaxSize(USE_PREF_SIZE, USE_PREF_SIZE);
 		textArea.setMinSize(USE_PREF_SIZE, USE_PREF_SIZE);
 		getAppearanceManager().addCssClass(BhParams.CSS.CLASS_TEXT_AREA_NODE);
 	}
 
+	@Override
+	void resetForReuse() {
+		super.resetForReuse();
+		model = null;
+	}
+
+	@Override
+	void reinit(BhNode model) throws ViewInitializationException {
+
+		super.reinit(model);
+		this.model = (TextNode)model;
+		addButtons(this.model);
+	}
+
 	@Override
 	public TextNode getModel() {
 		return model;
@@ -117,25 +122,17 @@ public final class TextAreaNodeView  extends TextInputNodeView {
 	 * @param checkFormatFunc 入力された文字列の形式が正しいかどうか判断する関数 (テキスト変更時のイベントハンドラから呼び出す)
 	 */
 	public void setTextChangeListener(Function<String, Boolean> checkFormatFunc) {
-
-		textArea.boundsInLocalProperty().addListener(
-			(observable, oldVal, newVal) -> updateTextAreaLook(checkFormatFunc));
-
-		// テキストの長さに応じてTextArea のサイズが変わるように
-		textArea.textProperty().addListener(
-			(observable, oldVal, newVal) ->	updateTextAreaLook(checkFormatFunc));
+		this.checkFormatFunc = checkFormatFunc;
 	}
 
 	/**
 	 * テキストエリアの見た目を変える
-	 * @param checkFormatFunc テキストのフォーマットをチェックする関数
-	 * @param text このテキストに基づいてテキストエリアの見た目を変える
 	 */
-	private void updateTextAreaLook(Function<String, Boolean> checkFormatFunc) {
+	private void updateTextAreaLook() {
 
 		Text textPart = (Text)textArea.lookup(".text");
 		Region content = (Region)textArea.lookup(".content");
-		if (textPart != null && content != null){
+		if (textPart != null && content != null && checkFormatFunc != null){
 
 			// 正確な文字部分の境界を取得するため, GUI部品内部のTextの境界は使わない.
 			Vec2D textBounds = ViewHelper.INSTANCE.calcStrBounds(
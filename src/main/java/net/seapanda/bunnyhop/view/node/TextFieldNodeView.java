@@ -27,14 +27,13 @@ import net.seapanda.bunnyhop.common.Vec2D;
 import net.seapanda.bunnyhop.common.constant.BhParams;
 import net.seapanda.bunnyhop.common.tools.MsgPrinter;
 import net.seapanda.bunnyhop.message.MsgService;
+import net.seapanda.bunnyhop.model.node.BhNode;
 import net.seapanda.bunnyhop.model.node.TextNode;
 import net.seapanda.bunnyhop.view.ViewHelper;
 import net.seapanda.bunnyhop.view.ViewInitializationException;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle.CNCTR_POS;
 import net.seapanda.bunnyhop.view.node.part.ComponentLoader;
-import net.seapanda.bunnyhop.view.node.part.ImitationCreationButton;
-import net.seapanda.bunnyhop.view.node.part.PrivateTemplateCreationButton;
 import net.seapanda.bunnyhop.viewprocessor.NodeViewProcessor;
 
 /**
@@ -44,7 +43,8 @@ import net.seapanda.bunnyhop.viewprocessor.NodeViewProcessor;
 public final class TextFieldNodeView extends TextInputNodeView {
 
 	private TextField textField = new TextField();
-	private final TextNode model;
+	private TextNode model;
+	private Function<String, Boolean> checkFormatFunc;	//!< 入力された文字列の形式が正しいかどうか判断する関数
 
 	/**
 	 * コンストラクタ
@@ -68,19 +68,7 @@ public final class TextFieldNodeView extends TextInputNodeView {
 		getTreeManager().addChild(textField);
 		textField.addEventFilter(MouseEvent.ANY, this::propagateEvent);
 
-		if (model.canCreateImitManually) {
-			var imitButtonOpt = ImitationCreationButton.create(model, viewStyle.imitation);
-			var imitButton = imitButtonOpt.orElseThrow(() -> new ViewInitializationException(
-				getClass().getSimpleName() + "  failed To load the Imitation Creation Button of this view."));
-			getTreeManager().addChild(imitButton);
-		}
-
-		if (model.hasPrivateTemplateNodes()) {
-			var privateTemplateBtnOpt = PrivateTemplateCreationButton.create(model, viewStyle.privatTemplate);
-			var privateTemplateBtn = privateTemplateBtnOpt.orElseThrow(() -> new ViewInitializationException(
-				getClass().getSimpleName() + "  failed To load the Private Template Button of this view."));
-			getTreeManager().addChild(privateTemplateBtn);
-		}
+		addButtons(model);
 
 		initStyle();
 	}
@@ -99,11 +87,28 @@ public final class TextFieldNodeView extends TextInputNodeView {
 		textField.getStyleClass().add(viewStyle.textField.cssClass);
 		textField.heightProperty().addListener(observable -> notifySizeChange());
 		textField.widthProperty().addListener(observable -> notifySizeChange());
+		textField.boundsInLocalProperty().addListener((observable, oldVal, newVal) -> updateTextFieldLook());
+		// テキストの長さに応じてTextField の長さが変わるように
+		textField.textProperty().addListener((observable, oldVal, newVal) -> updateTextFieldLook());
 		textField.setMaxWidth(USE_PREF_SIZE);
 		textField.setMinWidth(USE_PREF_SIZE);
 		getAppearanceManager().addCssClass(BhParams.CSS.CLASS_TEXT_FIELD_NODE);
 	}
 
+	@Override
+	void resetForReuse() {
+		super.resetForReuse();
+		model = null;
+	}
+
+	@Override
+	void reinit(BhNode model) throws ViewInitializationException {
+
+		super.reinit(model);
+		this.model = (TextNode)model;
+		addButtons(this.model);
+	}
+
 	@Override
 	public TextNode getModel() {
 		return model;
@@ -111,23 +116,16 @@ public final class TextFieldNodeView extends TextInputNodeView {
 
 	@Override
 	public void setTextChangeListener(Function<String, Boolean> checkFormatFunc) {
-
-		textField.boundsInLocalProperty().addListener(
-			(observable, oldVal, newVal) -> updateTextFieldLook(checkFormatFunc));
-
-		// テキストの長さに応じてTextField の長さが変わるように
-		textField.textProperty().addListener(
-			(observable, oldVal, newVal) ->	updateTextFieldLook(checkFormatFunc));
+		this.checkFormatFunc = checkFormatFunc;
 	}
 
 	/**
 	 * テキストフィールドの見た目を変える
-	 * @param checkFormatFunc テキストのフォーマットをチェックする関数
 	 * */
-	private void updateTextFieldLook(Function<String, Boolean> checkFormatFunc) {
+	private void updateTextFieldLook() {
 
 		Text textPart = (Text)textField.lookup(".text");
-		if (textPart != null) {
+		if (textPart != null && checkFormatFunc != null) {
 
 			// 正確な文字部分の境界を取得するため, GUI部品内部のTextの境界は使わない.
 			double newWidth = ViewHelper.INSTANCE.calcStrWidth(textPart.getText(), textPart.getFont());
@@ -28,6 +28,8 @@ import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle;
 
 public abstract class TextInputNodeView extends BhNodeView {
 
+	private ChangeListener<? super Boolean> focusListener;	//!< テキスト入力部分のフォーカスが変わったときのイベントハンドラ
+
 	protected TextInputNodeView(TextNode model, BhNodeViewStyle viewStyle) {
 		super(viewStyle, model);
 	}
@@ -38,17 +40,33 @@ public abstract class TextInputNodeView extends BhNodeView {
 	protected abstract TextInputControl getTextInputControl();
 
 	/**
-	 * テキスト変更時のイベントハンドラを登録する
-	 * @param checkFormatFunc 入力された文字列の形式が正しいかどうか判断する関数 (テキスト変更時のイベントハンドラから呼び出す)
+	 * テキスト変更時のイベントハンドラを登録する. 登録済みのイベントハンドラは置き換える.
+	 * @param checkFormatFunc 入力された文字列の形式が正しいかどうか判断する関数 (テキスト変更時のイベントハンドラから呼び出す). null の場合は何も呼び出さない.
 	 * */
 	public abstract void setTextChangeListener(Function<String, Boolean> checkFormatFunc);
 
 	/**
-	 * テキストフィールドのカーソル on/off 時のイベントハンドラを登録する
-	 * @param changeFocusFunc テキストフィールドのカーソルon/off時のイベントハンドラ
+	 * テキストフィールドのカーソル on/off 時のイベントハンドラを登録する. 登録済みのイベントハンドラは置き換える.
+	 * @param changeFocusFunc テキストフィールドのカーソルon/off時のイベントハンドラ. null の場合はイベントハンドラを取り除くだけ.
 	 */
-	public final void addFocusListener(ChangeListener<? super Boolean> changeFocusFunc) {
-		getTextInputControl().focusedProperty().addListener(changeFocusFunc);
+	public final void setFocusListener(ChangeListener<? super Boolean> changeFocusFunc) {
+
+		if (focusListener != null)
+			getTextInputControl().focusedProperty().removeListener(focusListener);
+
+		focusListener = changeFocusFunc;
+		if (changeFocusFunc != null)
+			getTextInputControl().focusedProperty().addListener(changeFocusFunc);
+	}
+
+	@Override
+	void resetForReuse() {
+
+		super.resetForReuse();
+		setFocusListener(null);
+		setTextChangeListener(null);
+		getTextInputControl().setTextFormatter(null);
+		setEditable(true);
 	}
 
 	/**
@@ -98,6 +116,7 @@ public abstract class TextInputNodeView extends BhNodeView {
 	 */
 	public final void setText(String text) {
 		getTextInputControl().setText(text);
+		getAppearanceManager().notifyContentChanged();
 	}
 
 
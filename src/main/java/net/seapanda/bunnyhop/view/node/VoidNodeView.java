@@ -18,7 +18,9 @@ package net.seapanda.bunnyhop.view.node;
 import net.seapanda.bunnyhop.common.Vec2D;
 import net.seapanda.bunnyhop.common.constant.BhParams;
 import net.seapanda.bunnyhop.common.tools.MsgPrinter;
+import net.seapanda.bunnyhop.model.node.BhNode;
 import net.seapanda.bunnyhop.model.node.VoidNode;
+import net.seapanda.bunnyhop.view.ViewInitializationException;
 import net.seapanda.bunnyhop.view.bodyshape.BodyShape.BODY_SHAPE;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle;
 import net.seapanda.bunnyhop.view.node.part.BhNodeViewStyle.CNCTR_POS;
@@ -30,7 +32,7 @@ import net.seapanda.bunnyhop.viewprocessor.NodeViewProcessor;
  */
 public class VoidNodeView extends BhNodeView {
 
-	private final VoidNode model;	//!< このビューに対応するモデル
+	private VoidNode model;	//!< このビューに対応するモデル
 
 	/**
 	 * コンストラクタ
@@ -45,6 +47,18 @@ public class VoidNodeView extends BhNodeView {
 		setMouseTransparent(true);
 	}
 
+	@Override
+	void resetForReuse() {
+		super.resetForReuse();
+		model = null;
+	}
+
+	@Override
+	void reinit(BhNode model) throws ViewInitializationException {
+		super.reinit(model);
+		this.model = (VoidNode)model;
+	}
+
 	/**
 	 * このビューのモデルであるBhNodeを取得する
 	 * @return このビューのモデルであるBhNode
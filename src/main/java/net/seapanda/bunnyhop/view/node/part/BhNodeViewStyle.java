@@ -81,22 +81,6 @@ public class BhNodeViewStyle {
 		public CHILD_ARRANGEMENT arrangement = CHILD_ARRANGEMENT.COLUMN; //!< 子要素のノードとサブグループが並ぶ方向
 		public List<String> cnctrNameList = new ArrayList<>();
 		public List<Arrangement> subGroup = new ArrayList<>();
-
-		void copy(Arrangement org) {
-			space = org.space;
-			paddingTop = org.paddingTop;
-			paddingRight = org.paddingRight;
-			paddingBottom = org.paddingBottom;
-			paddingLeft = org.paddingLeft;
-			arrangement = org.arrangement;
-			cnctrNameList.addAll(org.cnctrNameList);
-			org.subGroup.forEach(orgSubGroup -> {
-				Arrangement newSubGroup = new Arrangement();
-				newSubGroup.copy(orgSubGroup);
-				subGroup.add(newSubGroup);
-			});
-
-		}
 	}
 
 	public TextField textField = new TextField();
@@ -164,46 +148,6 @@ public class BhNodeViewStyle {
 	 * */
 	public BhNodeViewStyle() {}
 
-	/**
-	 * コピーコンストラクタ
-	 * @param org コピー元
-	 * */
-	private BhNodeViewStyle(BhNodeViewStyle org) {
-
-		this.nodeStyleID = org.nodeStyleID;
-		this.paddingTop = org.paddingTop;
-		this.paddingBottom = org.paddingBottom;
-		this.paddingLeft = org.paddingLeft;
-		this.paddingRight = org.paddingRight;
-		this.bodyShape = org.bodyShape;
-		this.connectorPos = org.connectorPos;
-		this.connectorShift = org.connectorShift;
-		this.connectorWidth = org.connectorWidth;
-		this.connectorHeight = org.connectorHeight;
-		this.connectorShape = org.connectorShape;
-		this.connectorBoundsRate = org.connectorBoundsRate;
-		this.notchPos = org.notchPos;
-		this.notchWidth = org.notchWidth;
-		this.notchHeight = org.notchHeight;
-		this.notchShape = org.notchShape;
-		this.connective.inner.copy(org.connective.inner);
-		this.connective.outer.copy(org.connective.outer);
-		this.cssClass = org.cssClass;
-		this.textField.minWidth = org.textField.minWidth;
-		this.textField.cssClass = org.textField.cssClass;
-		this.label.cssClass = org.label.cssClass;
-		this.comboBox.cssClass = org.comboBox.cssClass;
-		this.textArea.minWidth = org.textArea.minWidth;
-		this.textArea.minHeight = org.textArea.minHeight;
-		this.textArea.cssClass = org.textArea.cssClass;
-		this.imitation.cssClass = org.imitation.cssClass;
-		this.imitation.buttonPosX = org.imitation.buttonPosX;
-		this.imitation.buttonPosY = org.imitation.buttonPosY;
-		this.privatTemplate.cssClass = org.privatTemplate.cssClass;
-		this.privatTemplate.buttonPosX = org.privatTemplate.buttonPosX;
-		this.privatTemplate.buttonPosY = org.privatTemplate.buttonPosY;
-	}
-
 	/**
 	 * コネクタの大きさを取得する
 	 * @return コネクタの大きさ
@@ -664,15 +608,15 @@ public class BhNodeViewStyle {
 	}
 
 	/**
-	 * ノードID から ノードスタイルオブジェクトを取得する
+	 * ノードID から ノードスタイルオブジェクトを取得する. <br>
+	 * 返すオブジェクトは同じスタイルのノードビュー間で共有されるので, 変更しないこと.
 	 * @param nodeID ノードID (bhNodeID属性)
 	 * @return ノードスタイルオブジェクト
 	 * */
 	public static BhNodeViewStyle getNodeViewStyleFromNodeID(BhNodeID nodeID) {
 
 		String nodeStyleID = nodeIdToNodeStyleID.get(nodeID);
-		BhNodeViewStyle nodeStyle = nodeStyleIDToNodeStyleTemplate.get(nodeStyleID);
-		return new BhNodeViewStyle(nodeStyle);
+		return nodeStyleIDToNodeStyleTemplate.get(nodeStyleID);
 	}
 
 	/**
@@ -15,9 +15,13 @@
  */
 package net.seapanda.bunnyhop.view.node.part;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.fxml.FXMLLoader;
 import javafx.scene.control.Button;
@@ -32,6 +36,9 @@ import net.seapanda.bunnyhop.model.node.attribute.BhNodeID;
  */
 public class ComponentLoader {
 
+	/** FXML ファイルのパスとその内容のマップ */
+	private static final Map<Path, byte[]> pathToFxmlContents = new ConcurrentHashMap<>();
+
 	/**
 	 * FXML ファイルからボタンをロードする
 	 * @param fileName ボタンをロードするFXMLファイル名
@@ -43,13 +50,31 @@ public class ComponentLoader {
 		throws IOException, ClassCastException {
 
 		Path filePath = FXMLCollector.INSTANCE.getFilePath(fileName);
-		FXMLLoader loader = new FXMLLoader(filePath.toUri().toURL());
+		FXMLLoader loader = new FXMLLoader();
 		loader.setController(root);
 		loader.setRoot(root);
-		loader.load();
+		load(filePath, loader);
 		setBtnStyle(buttonStyle, root);
 	}
 
+	/**
+	 * FXML ファイルからオブジェクトをロードする. <br>
+	 * ファイルの内容はキャッシュしておき, 2 回目以降はファイルを読まずにロードする.
+	 * @param filePath ロードする FXML ファイルのパス
+	 * @param loader ロードに使う FXMLLoader
+	 * @return ロードしたオブジェクトの階層のルート
+	 */
+	private static Object load(Path filePath, FXMLLoader loader) throws IOException {
+
+		byte[] contents = pathToFxmlContents.get(filePath);
+		if (contents == null) {
+			contents = Files.readAllBytes(filePath);
+			pathToFxmlContents.put(filePath, contents);
+		}
+		loader.setLocation(filePath.toUri().toURL());
+		return loader.load(new ByteArrayInputStream(contents));
+	}
+
 	/**
 	 * イミテーションノード作成ボタンのスタイルを指定する
 	 * @param style イミテーションノード作成ボタンのスタイル情報が格納されたオブジェクト
@@ -78,8 +103,7 @@ public class ComponentLoader {
 			return Optional.empty();
 
 		try {
-			FXMLLoader loader = new FXMLLoader(filePath.toUri().toURL());
-			return Optional.of((T)loader.load());
+			return Optional.of((T)load(filePath, new FXMLLoader()));
 		}
 		catch (IOException | ClassCastException e) {
 			MsgPrinter.INSTANCE.errMsgForDebug(
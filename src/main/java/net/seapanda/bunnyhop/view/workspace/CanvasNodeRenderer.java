@@ -0,0 +1,269 @@
+/**
+ * Copyright 2017 K.Koike
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.seapanda.bunnyhop.view.workspace;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.value.ChangeListener;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Transform;
+import net.seapanda.bunnyhop.quadtree.QuadTreeRectangle;
+import net.seapanda.bunnyhop.quadtree.QuadTreeRectangle.OVERLAP_OPTION;
+import net.seapanda.bunnyhop.view.node.BhNodeView;
+import net.seapanda.bunnyhop.viewprocessor.CallbackInvoker;
+
+/**
+ * 操作対象でないノードビューを, ノードビューの代わりにキャンバスにまとめて描画するクラス. <br>
+ * ボディの形に加えて, ラベル, テキスト, コントロールの背景も描画するので, 拡大率によらず使える.
+ * カーソルが乗っているノードビューのツリーと, フォーカスを持つ部品 (編集中のテキストフィールドなど) があるツリーだけは,
+ * キャンバスに描かずにノードビューとして表示する.
+ * 描画はアニメーションパルスごとに, 描画内容に変化があった場合だけ行う.
+ * @author K.Koike
+ */
+class CanvasNodeRenderer extends AnimationTimer {
+
+	private final WorkspaceView wsView;	//!< 描画するノードビューを探すワークスペースビュー
+	private final ScrollPane scrollPane;	//!< ビューポートを持つスクロールペイン
+	private final Pane wsPane;	//!< キャンバスを配置するワークスペースのペイン
+	private final ViewportCuller culler;	//!< ノードビューの表示/非表示を決めるオブジェクト
+	private final Canvas canvas = new Canvas();	//!< ノードを描画するキャンバス
+	private final QuadTreeRectangle drawnRange = new QuadTreeRectangle(0.0, 0.0, 0.0, 0.0, null);	//!< キャンバスに描画する領域
+	private boolean active = false;	//!< キャンバスに描画している場合 true
+	private boolean dirty = false;	//!< 次のパルスで再描画する場合 true
+	private BhNodeView promotedRoot = null;	//!< カーソルが乗っているため, キャンバスに描かずにノードビューとして表示するツリーのルートノードビュー
+	private BhNodeView editedRoot = null;	//!< フォーカスを持つ部品があるため, キャンバスに描かずにノードビューとして表示するツリーのルートノードビュー
+	private Scene observedScene = null;	//!< フォーカスを持つノードを監視しているシーン
+	/** フォーカスを持つノードが変わったときに, 編集中のツリーを更新するリスナ */
+	private final ChangeListener<Node> onFocusOwnerChanged = (observable, oldVal, newVal) -> updateEditedRoot(newVal);
+
+	/**
+	 * コンストラクタ
+	 * @param wsView 描画するノードビューを探すワークスペースビュー
+	 * @param scrollPane ビューポートを持つスクロールペイン
+	 * @param wsPane キャンバスを配置するワークスペースのペイン
+	 * @param culler ノードビューの表示/非表示を決めるオブジェクト
+	 */
+	CanvasNodeRenderer(WorkspaceView wsView, ScrollPane scrollPane, Pane wsPane, ViewportCuller culler) {
+
+		this.wsView = wsView;
+		this.scrollPane = scrollPane;
+		this.wsPane = wsPane;
+		this.culler = culler;
+		canvas.setMouseTransparent(true);
+		canvas.setManaged(false);
+		canvas.setVisible(false);
+		wsPane.getChildren().add(0, canvas);
+	}
+
+	/**
+	 * キャンバスへの描画の有効/無効を切り替える
+	 * @param active キャンバスに描画する場合 true
+	 */
+	void setActive(boolean active) {
+
+		if (this.active == active)
+			return;
+
+		this.active = active;
+		promotedRoot = null;
+		editedRoot = null;
+		if (active) {
+			observedScene = wsPane.getScene();
+			if (observedScene != null) {
+				observedScene.focusOwnerProperty().addListener(onFocusOwnerChanged);
+				editedRoot = findRootView(observedScene.getFocusOwner());
+			}
+			canvas.setVisible(true);
+			dirty = true;
+			start();
+		}
+		else {
+			if (observedScene != null)
+				observedScene.focusOwnerProperty().removeListener(onFocusOwnerChanged);
+			observedScene = null;
+			stop();
+			canvas.setVisible(false);
+			canvas.setWidth(0.0);
+			canvas.setHeight(0.0);
+		}
+		culler.updateViewport();
+	}
+
+	/**
+	 * 引数のノードビューをキャンバスに描画するかどうかを調べる
+	 * @param nodeView 調べるノードビュー
+	 * @return 引数のノードビューをノードビューとしてではなくキャンバスに描画する場合 true
+	 */
+	boolean drawsOnCanvas(BhNodeView nodeView) {
+
+		if (!active)
+			return false;
+
+		BhNodeView rootView = nodeView.getTreeManager().getRootView();
+		return rootView != promotedRoot && rootView != editedRoot;
+	}
+
+	/**
+	 * 次のパルスでキャンバスを再描画する
+	 */
+	void requestRedraw() {
+		dirty = true;
+	}
+
+	/**
+	 * カーソルが動いたときに, カーソルの下にあるノードビューのツリーをノードビューとして表示する.
+	 * @param event カーソルが動いたときのマウスイベント
+	 */
+	void onMouseMoved(MouseEvent event) {
+
+		if (!active)
+			return;
+
+		var cursorRange = new QuadTreeRectangle(event.getX(), event.getY(), event.getX(), event.getY(), null);
+		List<BhNodeView> overlappedViews =
+			wsView.searchForOverlappedNodeViews(cursorRange, true, OVERLAP_OPTION.INTERSECT);
+		BhNodeView newRoot =
+			overlappedViews.isEmpty() ? null : overlappedViews.get(0).getTreeManager().getRootView();
+		if (newRoot == promotedRoot)
+			return;
+
+		BhNodeView oldRoot = promotedRoot;
+		promotedRoot = newRoot;
+		updateVisibility(oldRoot, newRoot);
+	}
+
+	/**
+	 * フォーカスを持つノードが変わったときに, そのノードがあるツリーをノードビューとして表示する.
+	 * @param focusOwner 新しくフォーカスを持ったノード
+	 */
+	private void updateEditedRoot(Node focusOwner) {
+
+		BhNodeView newRoot = findRootView(focusOwner);
+		if (newRoot == editedRoot)
+			return;
+
+		BhNodeView oldRoot = editedRoot;
+		editedRoot = newRoot;
+		updateVisibility(oldRoot, newRoot);
+	}
+
+	/**
+	 * キャンバスに描くかどうかが変わったツリーの表示/非表示を更新して, キャンバスを再描画する
+	 * @param oldRoot ノードビューとして表示しなくなったツリーのルートノードビュー (null 可)
+	 * @param newRoot ノードビューとして表示するようになったツリーのルートノードビュー (null 可)
+	 */
+	private void updateVisibility(BhNodeView oldRoot, BhNodeView newRoot) {
+
+		if (oldRoot != null)
+			CallbackInvoker.invoke(culler::updateVisibility, oldRoot, false);
+		if (newRoot != null)
+			CallbackInvoker.invoke(culler::updateVisibility, newRoot, false);
+		dirty = true;
+	}
+
+	/**
+	 * 引数のノードを含むこのワークスペースのノードビューのツリーのルートノードビューを返す
+	 * @param fxNode ルートノードビューを探すノード (null 可)
+	 * @return {@code fxNode} を含むツリーのルートノードビュー. {@code fxNode} がこのワークスペースのノードビューに含まれない場合 null.
+	 */
+	private BhNodeView findRootView(Node fxNode) {
+
+		BhNodeView nodeView = null;
+		for (Node node = fxNode; node != null; node = node.getParent()) {
+			if (node == wsPane)
+				return (nodeView == null) ? null : nodeView.getTreeManager().getRootView();
+
+			if (nodeView == null && node instanceof BhNodeView)
+				nodeView = (BhNodeView)node;
+		}
+		return null;
+	}
+
+	@Override
+	public void handle(long now) {
+
+		if (!dirty)
+			return;
+
+		dirty = false;
+		redraw();
+	}
+
+	/**
+	 * ビューポート内にあるノードをキャンバスに描画する
+	 */
+	private void redraw() {
+
+		Bounds viewport = wsPane.sceneToLocal(scrollPane.localToScene(scrollPane.getLayoutBounds()));
+		if (viewport == null)
+			return;
+
+		// キャンバスの 1 ピクセルが画面の 1 ピクセルになるように, 拡大率の逆数で縮小して配置する
+		Transform scale = wsPane.getTransforms().get(0);
+		double magX = scale.getMxx();
+		double magY = scale.getMyy();
+		canvas.setLayoutX(viewport.getMinX());
+		canvas.setLayoutY(viewport.getMinY());
+		canvas.getTransforms().setAll(new Scale(1.0 / magX, 1.0 / magY, 0.0, 0.0));
+		canvas.setWidth(Math.ceil(viewport.getWidth() * magX));
+		canvas.setHeight(Math.ceil(viewport.getHeight() * magY));
+
+		GraphicsContext gc = canvas.getGraphicsContext2D();
+		gc.setTransform(1.0, 0.0, 0.0, 1.0, 0.0, 0.0);
+		gc.clearRect(0.0, 0.0, canvas.getWidth(), canvas.getHeight());
+		gc.setTransform(magX, 0.0, 0.0, magY, -viewport.getMinX() * magX, -viewport.getMinY() * magY);
+
+		drawnRange.updatePos(viewport.getMinX(), viewport.getMinY(), viewport.getMaxX(), viewport.getMaxY());
+		List<BhNodeView> viewsToDraw =
+			wsView.searchForOverlappedNodeViews(drawnRange, true, OVERLAP_OPTION.INTERSECT);
+		viewsToDraw.removeIf(nodeView -> !drawsOnCanvas(nodeView));
+
+		// シーングラフと同じ重なり順で描画する
+		Map<Node, Integer> groupToOrder = new HashMap<>();
+		List<Node> children = wsPane.getChildren();
+		for (int i = 0; i < children.size(); ++i)
+			groupToOrder.put(children.get(i), i);
+
+		viewsToDraw.sort((viewA, viewB) -> {
+			int orderA = groupToOrder.getOrDefault(viewA.getParent(), 0);
+			int orderB = groupToOrder.getOrDefault(viewB.getParent(), 0);
+			if (orderA != orderB)
+				return Integer.compare(orderA, orderB);
+			return Double.compare(viewB.getViewOrder(), viewA.getViewOrder());
+		});
+		for (BhNodeView nodeView : viewsToDraw) {
+			nodeView.getAppearanceManager().drawShape(gc);
+			nodeView.getAppearanceManager().drawContents(gc);
+		}
+	}
+}
+
+
+
+
+
+
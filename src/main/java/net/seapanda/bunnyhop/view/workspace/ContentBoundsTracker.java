@@ -0,0 +1,103 @@
+/**
+ * Copyright 2017 K.Koike
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.seapanda.bunnyhop.view.workspace;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.seapanda.bunnyhop.common.Vec2D;
+import net.seapanda.bunnyhop.view.node.BhNodeView;
+
+/**
+ * ワークスペース上のルートノードビュー群の右端と下端の最大位置を逐次的に管理するクラス. <br>
+ * ルートノードビューが移動, 追加されたときは, そのノードビューの分だけ更新する.
+ * 最も右 (下) にあったノードビューが左 (上) に移動したり削除されたときは, 次に最大位置を取得するときに全体を計算し直す.
+ * @author K.Koike
+ */
+class ContentBoundsTracker {
+
+	/** ルートノードビューとその右下の位置 (ワークスペース上の座標) のマップ */
+	private final Map<BhNodeView, Vec2D> rootToLowerRight = new HashMap<>();
+	private double maxRight = 0.0;	//!< 全ルートノードビューの右端の最大位置
+	private double maxBottom = 0.0;	//!< 全ルートノードビューの下端の最大位置
+	private boolean isStale = false;	//!< 最大位置が実際より大きい可能性がある場合 true
+
+	/**
+	 * ルートノードビューの位置か大きさが変わったときに, 管理している最大位置を更新する.
+	 * @param rootView 位置か大きさが変わったルートノードビュー
+	 * @param posX rootView の新しいワークスペース上での X 位置
+	 * @param posY rootView の新しいワークスペース上での Y 位置
+	 * @return 最大位置が大きくなった場合 true
+	 */
+	boolean update(BhNodeView rootView, double posX, double posY) {
+
+		Vec2D size = rootView.getRegionManager().getNodeSizeIncludingOuter(false);
+		var lowerRight = new Vec2D(posX + size.x, posY + size.y);
+		Vec2D old = rootToLowerRight.put(rootView, lowerRight);
+		boolean expanded = false;
+		if (lowerRight.x > maxRight) {
+			maxRight = lowerRight.x;
+			expanded = true;
+		}
+		else if (old != null && old.x == maxRight && lowerRight.x < maxRight) {
+			isStale = true;
+		}
+
+		if (lowerRight.y > maxBottom) {
+			maxBottom = lowerRight.y;
+			expanded = true;
+		}
+		else if (old != null && old.y == maxBottom && lowerRight.y < maxBottom) {
+			isStale = true;
+		}
+		return expanded;
+	}
+
+	/**
+	 * ルートノードビューがワークスペースから無くなったときに, 管理対象から外す.
+	 * @param rootView ワークスペースから無くなったルートノードビュー
+	 */
+	void remove(BhNodeView rootView) {
+
+		Vec2D old = rootToLowerRight.remove(rootView);
+		if (old != null && (old.x == maxRight || old.y == maxBottom))
+			isStale = true;
+	}
+
+	/**
+	 * 全ルートノードビューの右端と下端の最大位置を返す
+	 * @return 全ルートノードビューの右端と下端の最大位置 (ワークスペース上の座標)
+	 */
+	Vec2D getLowerRight() {
+
+		if (isStale) {
+			maxRight = 0.0;
+			maxBottom = 0.0;
+			for (Vec2D lowerRight : rootToLowerRight.values()) {
+				maxRight = Math.max(maxRight, lowerRight.x);
+				maxBottom = Math.max(maxBottom, lowerRight.y);
+			}
+			isStale = false;
+		}
+		return new Vec2D(maxRight, maxBottom);
+	}
+}
+
+
+
+
+
+
@@ -0,0 +1,174 @@
+/**
+ * Copyright 2017 K.Koike
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.seapanda.bunnyhop.view.workspace;
+
+import java.util.function.Consumer;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Bounds;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.transform.Transform;
+import net.seapanda.bunnyhop.common.Vec2D;
+import net.seapanda.bunnyhop.common.constant.BhParams;
+import net.seapanda.bunnyhop.common.tools.Util;
+
+/**
+ * ノードのドラッグ中にカーソルがビューポートの端に近づいたとき, ワークスペースを自動でスクロールさせるクラス. <br>
+ * スクロールはマウスイベントではなくアニメーションパルスごとに行うので, カーソルが止まっていてもスクロールし続ける.
+ * @author K.Koike
+ */
+class EdgeAutoScroller extends AnimationTimer {
+
+	private final ScrollPane scrollPane;	//!< スクロールさせるスクロールペイン
+	private final Pane wsPane;	//!< 拡大率を取得するワークスペースのペイン
+	private double cursorSceneX = 0.0;	//!< 最後に通知されたカーソルのシーン上の X 位置
+	private double cursorSceneY = 0.0;	//!< 最後に通知されたカーソルのシーン上の Y 位置
+	/** スクロールした後に呼ぶ関数. 引数はワークスペース上でのスクロール量. */
+	private Consumer<Vec2D> onScrolled = distance -> {};
+	private long lastFrameTime = -1;	//!< 前回のパルスの時刻 (ns). 未計測の場合は負の値.
+	private boolean running = false;	//!< タイマーが動作中の場合 true
+
+	/**
+	 * コンストラクタ
+	 * @param scrollPane スクロールさせるスクロールペイン
+	 * @param wsPane 拡大率を取得するワークスペースのペイン
+	 */
+	EdgeAutoScroller(ScrollPane scrollPane, Pane wsPane) {
+		this.scrollPane = scrollPane;
+		this.wsPane = wsPane;
+	}
+
+	/**
+	 * カーソル位置を更新し, 自動スクロールが止まっている場合は開始する.
+	 * @param sceneX カーソルのシーン上の X 位置
+	 * @param sceneY カーソルのシーン上の Y 位置
+	 * @param onScrolled スクロールした後に呼ぶ関数. 引数はワークスペース上でのスクロール量.
+	 */
+	void update(double sceneX, double sceneY, Consumer<Vec2D> onScrolled) {
+
+		cursorSceneX = sceneX;
+		cursorSceneY = sceneY;
+		this.onScrolled = onScrolled;
+		if (!running) {
+			lastFrameTime = -1;
+			running = true;
+			start();
+		}
+	}
+
+	/**
+	 * 自動スクロールを終了する
+	 */
+	void finish() {
+
+		if (!running)
+			return;
+
+		stop();
+		running = false;
+		onScrolled = distance -> {};
+	}
+
+	@Override
+	public void handle(long now) {
+
+		if (lastFrameTime < 0) {
+			lastFrameTime = now;
+			return;
+		}
+		double elapsedSec = (now - lastFrameTime) / 1.0e9;
+		lastFrameTime = now;
+
+		Bounds viewport = scrollPane.localToScene(scrollPane.getLayoutBounds());
+		double speedX = calcSpeed(cursorSceneX, viewport.getMinX(), viewport.getMaxX());
+		double speedY = calcSpeed(cursorSceneY, viewport.getMinY(), viewport.getMaxY());
+		if (speedX == 0.0 && speedY == 0.0)
+			return;
+
+		Bounds content = scrollPane.getContent().getLayoutBounds();
+		Bounds viewportBounds = scrollPane.getViewportBounds();
+		double scrolledX = scrollHorizontally(speedX * elapsedSec, content.getWidth() - viewportBounds.getWidth());
+		double scrolledY = scrollVertically(speedY * elapsedSec, content.getHeight() - viewportBounds.getHeight());
+		if (scrolledX == 0.0 && scrolledY == 0.0)
+			return;
+
+		Transform scale = wsPane.getTransforms().get(0);
+		onScrolled.accept(new Vec2D(scrolledX / scale.getMxx(), scrolledY / scale.getMyy()));
+	}
+
+	/**
+	 * カーソル位置からスクロール速度を求める
+	 * @param cursorPos カーソルの位置
+	 * @param min ビューポートの始端
+	 * @param max ビューポートの終端
+	 * @return スクロール速度 (pixel / sec). 始端方向が負.
+	 */
+	private double calcSpeed(double cursorPos, double min, double max) {
+
+		double margin = Math.min(BhParams.LnF.AUTO_SCROLL_MARGIN, (max - min) / 2.0);
+		if (margin <= 0.0)
+			return 0.0;
+
+		if (cursorPos < min + margin) {
+			double ratio = Util.INSTANCE.clamp((min + margin - cursorPos) / margin, 0.0, 1.0);
+			return -ratio * BhParams.LnF.AUTO_SCROLL_MAX_SPEED;
+		}
+		if (cursorPos > max - margin) {
+			double ratio = Util.INSTANCE.clamp((cursorPos - (max - margin)) / margin, 0.0, 1.0);
+			return ratio * BhParams.LnF.AUTO_SCROLL_MAX_SPEED;
+		}
+		return 0.0;
+	}
+
+	/**
+	 * 横方向にスクロールする
+	 * @param diff スクロールさせたい量 (pixel)
+	 * @param scrollableLen スクロール可能な長さ (pixel)
+	 * @return 実際にスクロールした量 (pixel)
+	 */
+	private double scrollHorizontally(double diff, double scrollableLen) {
+
+		if (diff == 0.0 || scrollableLen <= 0.0)
+			return 0.0;
+
+		double range = scrollPane.getHmax() - scrollPane.getHmin();
+		double oldVal = scrollPane.getHvalue();
+		double newVal = Util.INSTANCE.clamp(
+			oldVal + diff / scrollableLen * range, scrollPane.getHmin(), scrollPane.getHmax());
+		scrollPane.setHvalue(newVal);
+		return (newVal - oldVal) / range * scrollableLen;
+	}
+
+	/**
+	 * 縦方向にスクロールする
+	 * @param diff スクロールさせたい量 (pixel)
+	 * @param scrollableLen スクロール可能な長さ (pixel)
+	 * @return 実際にスクロールした量 (pixel)
+	 */
+	private double scrollVertically(double diff, double scrollableLen) {
+
+		if (diff == 0.0 || scrollableLen <= 0.0)
+			return 0.0;
+
+		double range = scrollPane.getVmax() - scrollPane.getVmin();
+		double oldVal = scrollPane.getVvalue();
+		double newVal = Util.INSTANCE.clamp(
+			oldVal + diff / scrollableLen * range, scrollPane.getVmin(), scrollPane.getVmax());
+		scrollPane.setVvalue(newVal);
+		return (newVal - oldVal) / range * scrollableLen;
+	}
+}
@@ -57,6 +57,8 @@ public class MultiNodeShifterView extends Pane {
 	@FXML private Pane shifterBase;
 	@FXML private Circle shifterCircle;
 	@FXML private Polygon shifterArrow;
+	private int batchDepth = 0;	//!< 入れ子になったバッチ処理の深さ
+	private boolean isPositionUpdatePending = false;	//!< バッチ処理中にシフタと全リンクの位置の更新を保留した場合 true
 
 
 	public MultiNodeShifterView() throws ViewInitializationException {
@@ -89,6 +91,27 @@ public class MultiNodeShifterView extends Pane {
 		}));
 	}
 
+	/**
+	 * バッチ処理を開始する. <br>
+	 * {@link #endBatch} を呼ぶまでシフタと全リンクの位置の更新を保留する. 必ず try-finally で {@link #endBatch} と対にして呼ぶこと.
+	 */
+	public void beginBatch() {
+		++batchDepth;
+	}
+
+	/**
+	 * バッチ処理を終了する. <br>
+	 * 最も外側のバッチ処理が終了した場合, 保留していたシフタと全リンクの位置の更新を1度だけ行う.
+	 */
+	public void endBatch() {
+
+		--batchDepth;
+		if (batchDepth == 0 && isPositionUpdatePending) {
+			isPositionUpdatePending = false;
+			updateShifterAndAllLinkPositions();
+		}
+	}
+
 	/**
 	 * 新しくリンクを作ってリンクとマルチノードシフタの位置の更新を行う.
 	 * @param node 新しくマニピュレータとリンクするノード. <br>
@@ -104,7 +127,7 @@ public class MultiNodeShifterView extends Pane {
 			getChildren().add(newLink);
 			shifterBase.toFront();
 		}
-		updateShifterAndAllLinkPositions();
+		requestShifterAndAllLinkPositionsUpdate();
 	}
 
 	/**
@@ -117,10 +140,22 @@ public class MultiNodeShifterView extends Pane {
 		Line link = node_link.remove(node);
 		if (link != null) {
 			getChildren().remove(link);
-			updateShifterAndAllLinkPositions();
+			requestShifterAndAllLinkPositionsUpdate();
 		}
 	}
 
+	/**
+	 * シフタと全リンクの位置を更新する. <br>
+	 * バッチ処理中は更新を保留し, 最も外側のバッチ処理の終了時にまとめて行う.
+	 */
+	private void requestShifterAndAllLinkPositionsUpdate() {
+
+		if (batchDepth > 0)
+			isPositionUpdatePending = true;
+		else
+			updateShifterAndAllLinkPositions();
+	}
+
 	/**
 	 * リンクの位置を更新する
 	 * @param node このノードと繋がるリンクの位置を更新する. <br>
@@ -225,15 +260,22 @@ public class MultiNodeShifterView extends Pane {
 		Vec2D distance = ViewHelper.INSTANCE.distance(diff, wsSize, getPosOnWorkspace());
 		setPosOnWorkspace(getTranslateX() + distance.x, getTranslateY() + distance.y);
 
-		if (moveLink) {
-			for (BhNode node : node_link.keySet()) {
-				updateLinkPos(node);
-			}
-		}
+		if (moveLink)
+			updateAllLinkPositions();
 
 		return distance;
 	}
 
+	/**
+	 * マルチノードシフタの位置は変えずに全リンクの位置を更新する.
+	 * */
+	public void updateAllLinkPositions() {
+
+		for (BhNode node : node_link.keySet()) {
+			updateLinkPos(node);
+		}
+	}
+
 	/**
 	 * マルチノードシフタのワークスペース上での位置を取得する
 	 * */
@@ -0,0 +1,115 @@
+/**
+ * Copyright 2017 K.Koike
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.seapanda.bunnyhop.view.workspace;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.geometry.Bounds;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.Pane;
+import net.seapanda.bunnyhop.common.constant.BhParams;
+import net.seapanda.bunnyhop.quadtree.QuadTreeRectangle;
+import net.seapanda.bunnyhop.quadtree.QuadTreeRectangle.OVERLAP_OPTION;
+import net.seapanda.bunnyhop.view.node.BhNodeView;
+
+/**
+ * ビューポートの外にあるノードビューを描画とマウスイベントの対象から外すクラス. <br>
+ * ノードビューを表示するかどうかは, ボディ部分の領域がビューポートと重なるかどうかを 4 分木空間で調べて決める.
+ * @author K.Koike
+ */
+class ViewportCuller {
+
+	private final WorkspaceView wsView;	//!< ノードビューを探すワークスペースビュー
+	private final ScrollPane scrollPane;	//!< ビューポートを持つスクロールペイン
+	private final Pane wsPane;	//!< ノードビューを保持するワークスペースのペイン
+	private final Predicate<BhNodeView> isDrawnOnCanvas;	//!< ノードビューの代わりにキャンバスに描画するかどうかを調べる関数
+	/** ノードビューを表示する領域 (ワークスペース上の座標). ビューポートの周囲に余白を加えたもの. */
+	private final QuadTreeRectangle visibleRange = new QuadTreeRectangle(0.0, 0.0, 0.0, 0.0, null);
+
+	/**
+	 * コンストラクタ
+	 * @param wsView ノードビューを探すワークスペースビュー
+	 * @param scrollPane ビューポートを持つスクロールペイン
+	 * @param wsPane ノードビューを保持するワークスペースのペイン
+	 * @param isDrawnOnCanvas ノードビューの代わりにキャンバスに描画するかどうかを調べる関数
+	 */
+	ViewportCuller(
+		WorkspaceView wsView, ScrollPane scrollPane, Pane wsPane, Predicate<BhNodeView> isDrawnOnCanvas) {
+		this.wsView = wsView;
+		this.scrollPane = scrollPane;
+		this.wsPane = wsPane;
+		this.isDrawnOnCanvas = isDrawnOnCanvas;
+	}
+
+	/**
+	 * ビューポートの位置や大きさ, 拡大率が変わったときに, 表示するノードビューを更新する.
+	 */
+	void updateViewport() {
+
+		List<BhNodeView> prevVisibleViews =
+			wsView.searchForOverlappedNodeViews(visibleRange, true, OVERLAP_OPTION.INTERSECT);
+
+		Bounds viewport = wsPane.sceneToLocal(scrollPane.localToScene(scrollPane.getLayoutBounds()));
+		if (viewport == null)
+			return;
+
+		double margin = BhParams.LnF.VIEWPORT_CULLING_MARGIN;
+		visibleRange.updatePos(
+			viewport.getMinX() - margin,
+			viewport.getMinY() - margin,
+			viewport.getMaxX() + margin,
+			viewport.getMaxY() + margin);
+		List<BhNodeView> visibleViews =
+			wsView.searchForOverlappedNodeViews(visibleRange, true, OVERLAP_OPTION.INTERSECT);
+
+		Set<BhNodeView> visibleViewSet = new HashSet<>(visibleViews);
+		prevVisibleViews.stream()
+			.filter(nodeView -> !visibleViewSet.contains(nodeView))
+			.forEach(nodeView -> nodeView.setVisible(false));
+		visibleViews.forEach(nodeView -> nodeView.setVisible(!isDrawnOnCanvas.test(nodeView)));
+	}
+
+	/**
+	 * ノードビューのボディ部分の 4 分木空間上の位置が更新されたときに, そのノードビューを表示するかどうかを更新する.
+	 * @param bodyRange 位置が更新されたボディ部分の領域
+	 */
+	void onBodyRangeUpdated(QuadTreeRectangle bodyRange) {
+
+		Object relatedObj = bodyRange.getRelatedObj();
+		if (relatedObj instanceof BhNodeView) {
+			var nodeView = (BhNodeView)relatedObj;
+			nodeView.setVisible(
+				bodyRange.overlapsWith(visibleRange, OVERLAP_OPTION.INTERSECT) && !isDrawnOnCanvas.test(nodeView));
+		}
+	}
+
+	/**
+	 * 引数のノードビューを表示するかどうかを更新する
+	 * @param nodeView 表示するかどうかを更新するノードビュー
+	 */
+	void updateVisibility(BhNodeView nodeView) {
+		onBodyRangeUpdated(nodeView.getRegionManager().getRegions()._1);
+	}
+}
+
+
+
+
+
+
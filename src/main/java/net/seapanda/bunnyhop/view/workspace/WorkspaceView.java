@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -49,6 +50,7 @@ import net.seapanda.bunnyhop.common.constant.BhParams;
 import net.seapanda.bunnyhop.common.tools.MsgPrinter;
 import net.seapanda.bunnyhop.common.tools.Util;
 import net.seapanda.bunnyhop.configfilereader.FXMLCollector;
+import net.seapanda.bunnyhop.control.DelayedTaskRunner;
 import net.seapanda.bunnyhop.model.workspace.Workspace;
 import net.seapanda.bunnyhop.quadtree.QuadTreeManager;
 import net.seapanda.bunnyhop.quadtree.QuadTreeRectangle;
@@ -77,7 +79,13 @@ public class WorkspaceView extends Tab {
 	private QuadTreeManager quadTreeMngForBody;			//!< ノードの本体部分の重なり判定に使う4分木管理クラス
 	private QuadTreeManager quadTreeMngForConnector;	//!< ノードのコネクタ部分の重なり判定に使う4分木管理クラス
 	int zoomLevel = 0;	//!< ワークスペースの拡大/縮小の段階
+	private boolean isLowDetail = false;	//!< ノードを簡略化して描画している場合 true
 	int workspaceSizeLevel = 0;	//!< ワークスペースの大きさの段階
+	private EdgeAutoScroller autoScroller;	//!< ノードのドラッグ中にビューポート端で自動スクロールさせるオブジェクト
+	private ViewportCuller culler;	//!< ビューポート外のノードビューを非表示にするオブジェクト
+	private CanvasNodeRenderer canvasRenderer;	//!< 操作対象でないノードをキャンバスにまとめて描画するオブジェクト
+	private boolean isCanvasRenderingEnabled = false;	//!< 操作対象でないノードをキャンバスにまとめて描画する場合 true
+	private final ContentBoundsTracker contentBounds = new ContentBoundsTracker();	//!< ルートノードビュー群の右端と下端の最大位置を管理するオブジェクト
 
 
 	public WorkspaceView(Workspace workspace) {
@@ -113,10 +121,14 @@ public class WorkspaceView extends Tab {
 		wsPane.setMinSize(minPaneSize.x, minPaneSize.y);
 		wsPane.setMaxSize(minPaneSize.x, minPaneSize.y);
 		wsPane.getTransforms().add(new Scale());
+		culler = new ViewportCuller(this, wsScrollPane, wsPane, nodeView -> canvasRenderer.drawsOnCanvas(nodeView));
+		canvasRenderer = new CanvasNodeRenderer(this, wsScrollPane, wsPane, culler);
 		quadTreeMngForBody = new QuadTreeManager(BhParams.LnF.NUM_DIV_OF_QTREE_SPACE, minPaneSize.x, minPaneSize.y);
+		quadTreeMngForBody.setOnRectPosUpdated(this::onBodyRangeUpdated);
 		quadTreeMngForConnector = new QuadTreeManager(BhParams.LnF.NUM_DIV_OF_QTREE_SPACE, minPaneSize.x, minPaneSize.y);
 		rectSelTool.getPoints().addAll(Stream.generate(() -> 0.0).limit(8).toArray(Double[]::new));
 		drawGridLines(minPaneSize.x, minPaneSize.y, quadTreeMngForBody.getNumPartitions());
+		autoScroller = new EdgeAutoScroller(wsScrollPane, wsPane);
 		setEventHandlers();
 		setText(workspace.getName());
 		return true;
@@ -127,6 +139,64 @@ public class WorkspaceView extends Tab {
 		wsScrollPane.addEventFilter(ScrollEvent.ANY, this::onScroll);
 		setOnCloseRequest(this::onCloseRequest);
 		setOnClosed(this::onClosed);
+		setViewportListeners();
+		wsPane.addEventFilter(MouseEvent.MOUSE_MOVED, canvasRenderer::onMouseMoved);
+		workspace.addOnSelectedNodeListChanged((ws, selectedNodes) -> canvasRenderer.requestRedraw(), true);
+		tabPaneProperty().addListener((observable, oldVal, newVal) -> updateCanvasRendererActivation());
+	}
+
+	/**
+	 * ビューポートが変わったときに表示するノードビューを更新するリスナを登録する
+	 */
+	private void setViewportListeners() {
+
+		wsScrollPane.hvalueProperty().addListener(observable -> onViewportChanged());
+		wsScrollPane.vvalueProperty().addListener(observable -> onViewportChanged());
+		wsScrollPane.viewportBoundsProperty().addListener(observable -> onViewportChanged());
+		wsPane.layoutBoundsProperty().addListener(observable -> onViewportChanged());
+		wsPane.getTransforms().addListener((ListChangeListener.Change<? extends Transform> change) -> onViewportChanged());
+	}
+
+	/**
+	 * ビューポートが変わったときの処理
+	 */
+	private void onViewportChanged() {
+		culler.updateViewport();
+		canvasRenderer.requestRedraw();
+	}
+
+	/**
+	 * ノードビューのボディ部分の 4 分木空間上の位置が更新されたときの処理
+	 * @param bodyRange 位置が更新されたボディ部分の領域
+	 */
+	private void onBodyRangeUpdated(QuadTreeRectangle bodyRange) {
+
+		culler.onBodyRangeUpdated(bodyRange);
+		canvasRenderer.requestRedraw();
+		BhNodeView nodeView = bodyRange.getRelatedObj();
+		if (nodeView != null && rootNodeToGroup.containsKey(nodeView)) {
+			Vec2D pos = bodyRange.getUpperLeftPos();
+			if (contentBounds.update(nodeView, pos.x, pos.y))
+				recalculateScrollableRange();
+		}
+	}
+
+	/**
+	 * キャンバスへの描画が設定で有効になっているかどうかと, このワークスペースビューが表示されているかどうかに応じて,
+	 * キャンバスへの描画の有効/無効を切り替える.
+	 */
+	private void updateCanvasRendererActivation() {
+		canvasRenderer.setActive(isCanvasRenderingEnabled && getTabPane() != null);
+	}
+
+	/**
+	 * 操作対象でないノードをキャンバスにまとめて描画するかどうかを設定する
+	 * @param enabled キャンバスに描画する場合 true
+	 */
+	public void setCanvasRenderingEnabled(boolean enabled) {
+
+		isCanvasRenderingEnabled = enabled;
+		updateCanvasRendererActivation();
 	}
 
 	/**
@@ -170,6 +240,7 @@ public class WorkspaceView extends Tab {
 	 */
 	private void onClosed(Event event) {
 
+		DelayedTaskRunner.INSTANCE.runPendingTask();
 		UserOperationCommand userOpeCmd = new UserOperationCommand();
 		BunnyHop.INSTANCE.deleteWorkspace(workspace, userOpeCmd);
 		BunnyHop.INSTANCE.pushUserOpeCmd(userOpeCmd);
@@ -224,6 +295,7 @@ public class WorkspaceView extends Tab {
 			return;
 
 		Group group = rootNodeToGroup.get(nodeView);
+		contentBounds.remove(nodeView);
 		nodeView.getTreeManager().removeFromGUITree();
 		wsPane.getChildren().remove(group);
 		rootNodeToGroup.remove(nodeView);
@@ -240,6 +312,7 @@ public class WorkspaceView extends Tab {
 				Pair<QuadTreeRectangle, QuadTreeRectangle> body_cnctr = view.getRegionManager().getRegions();
 				quadTreeMngForBody.addQuadTreeObj(body_cnctr._1);
 				quadTreeMngForConnector.addQuadTreeObj(body_cnctr._2);
+				view.getAppearanceManager().showDetail(!isLowDetail);
 			},
 			nodeView,
 			false);
@@ -332,6 +405,7 @@ public class WorkspaceView extends Tab {
 		wsPane.setMinSize(newWsWidth, newWsHeight);
 		wsPane.setMaxSize(newWsWidth, newWsHeight);
 		quadTreeMngForBody = new QuadTreeManager(quadTreeMngForBody, BhParams.LnF.NUM_DIV_OF_QTREE_SPACE, newWsWidth, newWsHeight);
+		quadTreeMngForBody.setOnRectPosUpdated(this::onBodyRangeUpdated);
 		quadTreeMngForConnector = new QuadTreeManager(quadTreeMngForConnector, BhParams.LnF.NUM_DIV_OF_QTREE_SPACE, newWsWidth, newWsHeight);
 
 		//全ノードの位置更新
@@ -397,9 +471,26 @@ public class WorkspaceView extends Tab {
 		scale.setY(mag);
 		wsPane.getTransforms().clear();
 		wsPane.getTransforms().add(scale);
+		updateDetailLevel();
 		recalculateScrollableRange();
 	}
 
+	/**
+	 * 現在の拡大レベルに応じて, ノードを簡略化して描画するかどうかを切り替える
+	 */
+	private void updateDetailLevel() {
+
+		boolean lowDetail = zoomLevel <= BhParams.LnF.LOW_DETAIL_ZOOM_LEVEL;
+		if (lowDetail == isLowDetail)
+			return;
+
+		isLowDetail = lowDetail;
+		rootNodeToGroup.keySet().forEach(
+			rootView -> CallbackInvoker.invoke(
+				view -> view.getAppearanceManager().showDetail(!lowDetail), rootView, false));
+		canvasRenderer.requestRedraw();
+	}
+
 	/**
 	 * スクロール可能な範囲を再計算する
 	 */
@@ -409,17 +500,10 @@ public class WorkspaceView extends Tab {
 		double magY = wsPane.getTransforms().get(0).getMyy();
 
 		// 全ノードの内の右端の最大の位置と下端の最大の位置
-		Vec2D maxRightAndBottomPosOfNodes = rootNodeToGroup.keySet().stream()
-			.map(nodeView -> {
-				Vec2D nodeSize = nodeView.getRegionManager().getNodeSizeIncludingOuter(false);
-				Vec2D nodePos = nodeView.getPositionManager().getPosOnWorkspace();
-				return new Vec2D(
-					magX * (nodePos.x + nodeSize.x) + BhParams.LnF.NODE_SCALE * 20,
-					magY * (nodePos.y + nodeSize.y) + BhParams.LnF.NODE_SCALE * 20);
-			})
-			.reduce(
-				new Vec2D(0.0, 0.0),
-				(accum, pos) -> new Vec2D(Math.max(accum.x, pos.x), Math.max(accum.y, pos.y)));
+		Vec2D lowerRight = contentBounds.getLowerRight();
+		Vec2D maxRightAndBottomPosOfNodes = new Vec2D(
+			magX * lowerRight.x + BhParams.LnF.NODE_SCALE * 20,
+			magY * lowerRight.y + BhParams.LnF.NODE_SCALE * 20);
 
 		Vec2D zoomedWsPaneSize = new Vec2D(wsPane.getMinWidth() * magX, wsPane.getMinHeight() * magY);
 		double scrollableHorizontalRange = Math.max(maxRightAndBottomPosOfNodes.x, zoomedWsPaneSize.x);
@@ -428,6 +512,24 @@ public class WorkspaceView extends Tab {
 
 	}
 
+	/**
+	 * カーソルがビューポートの端に近い場合, ワークスペースを自動でスクロールさせる. <br>
+	 * スクロールはアニメーションパルスごとに {@link #stopAutoScroll} が呼ばれるまで続く.
+	 * @param sceneX カーソルのシーン上の X 位置
+	 * @param sceneY カーソルのシーン上の Y 位置
+	 * @param onScrolled スクロールした後に呼ぶ関数. 引数はワークスペース上でのスクロール量.
+	 */
+	public void autoScrollAtEdge(double sceneX, double sceneY, Consumer<Vec2D> onScrolled) {
+		autoScroller.update(sceneX, sceneY, onScrolled);
+	}
+
+	/**
+	 * ビューポート端での自動スクロールを止める
+	 */
+	public void stopAutoScroll() {
+		autoScroller.finish();
+	}
+
 	/**
 	 * ワークスペース上での node の右下の位置を取得する
 	 * @param node 右下の位置を取得するノードビュー
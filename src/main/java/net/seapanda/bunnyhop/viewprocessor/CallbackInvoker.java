@@ -16,6 +16,7 @@
 package net.seapanda.bunnyhop.viewprocessor;
 
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import net.seapanda.bunnyhop.view.node.BhNodeView;
 import net.seapanda.bunnyhop.view.node.BhNodeViewGroup;
@@ -33,7 +34,8 @@ import net.seapanda.bunnyhop.view.node.VoidNodeView;
  * */
 public class CallbackInvoker implements NodeViewProcessor {
 
-	private final Consumer<BhNodeView> callback;
+	/** ノードビューに対して呼び出すコールバック関数. 戻り値はそのノードビューの子要素を走査する場合 true. */
+	private final Predicate<BhNodeView> callback;
 	private final Consumer<BhNodeViewGroup> callbackForGroup;
 	/** 外部ノードのみ巡る場合 true */
 	private final boolean visitOnlyOuter;
@@ -46,6 +48,22 @@ public class CallbackInvoker implements NodeViewProcessor {
 		boolean visitOnlyOuter,
 		boolean callAfterSearch) {
 
+		this(
+			view -> {
+				callback.accept(view);
+				return true;
+			},
+			callbackForGroup,
+			visitOnlyOuter,
+			callAfterSearch);
+	}
+
+	private CallbackInvoker(
+		Predicate<BhNodeView> callback,
+		Consumer<BhNodeViewGroup> callbackForGroup,
+		boolean visitOnlyOuter,
+		boolean callAfterSearch) {
+
 		this.callback = callback;
 		this.callbackForGroup = callbackForGroup;
 		this.visitOnlyOuter = visitOnlyOuter;
@@ -90,6 +108,16 @@ public class CallbackInvoker implements NodeViewProcessor {
 		nodeView.accept(new CallbackInvoker(callbackForNode, callbackForGroup, false, callAfterSearch));
 	}
 
+	/**
+	 * コールバック関数を呼び出す. <br>
+	 * コールバック関数が false を返したノードビューの子孫に対しては, コールバック関数を呼び出さない.
+	 * @param callback 呼び出すコールバック関数. 戻り値は引数のノードビューの子孫に対してもコールバック関数を呼ぶ場合 true.
+	 * @param nodeView これ以下のノードビューに対して, callback を呼び出す
+	 */
+	public static void invokeWhile(Predicate<BhNodeView> callback, BhNodeView nodeView) {
+		nodeView.accept(new CallbackInvoker(callback, g->{}, false, false));
+	}
+
 	@Override
 	public void visit(BhNodeViewGroup group) {
 
@@ -107,45 +135,48 @@ public class CallbackInvoker implements NodeViewProcessor {
 	@Override
 	public void visit(ConnectiveNodeView view) {
 
+		boolean searchesChildren = true;
 		if (!callAfterSearch)
-			callback.accept(view);
+			searchesChildren = callback.test(view);
 
-		if (!visitOnlyOuter)
-			view.sendToInnerGroup(this);
+		if (searchesChildren) {
+			if (!visitOnlyOuter)
+				view.sendToInnerGroup(this);
 
-		view.sendToOuterGroup(this);
+			view.sendToOuterGroup(this);
+		}
 
 		if (callAfterSearch)
-			callback.accept(view);
+			callback.test(view);
 	}
 
 	@Override
 	public void visit(TextFieldNodeView view) {
-		callback.accept(view);
+		callback.test(view);
 	}
 
 	@Override
 	public void visit(TextAreaNodeView view) {
-		callback.accept(view);
+		callback.test(view);
 	}
 
 	@Override
 	public void visit(LabelNodeView view) {
-		callback.accept(view);
+		callback.test(view);
 	}
 
 	@Override
 	public void visit(ComboBoxNodeView view) {
-		callback.accept(view);
+		callback.test(view);
 	}
 
 	@Override
 	public void visit(NoContentNodeView view) {
-		callback.accept(view);
+		callback.test(view);
 	}
 
 	@Override
 	public void visit(VoidNodeView view) {
-		callback.accept(view);
+		callback.test(view);
 	}
 }